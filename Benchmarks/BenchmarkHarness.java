@@ -0,0 +1,123 @@
+package Benchmarks;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+// Minimal time-boxed microbenchmark runner: warm-up phase, then a measured phase that
+// reports time per operation, bytes allocated per operation and GC activity.
+public class BenchmarkHarness {
+
+    private final long warmupNanos;
+    private final long measureNanos;
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final List<GarbageCollectorMXBean> gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+
+    // Results are folded into this field so the JIT cannot drop the measured work.
+    private volatile Object sink;
+
+    public BenchmarkHarness(long warmupMillis, long measureMillis) {
+        this.warmupNanos = warmupMillis * 1_000_000L;
+        this.measureNanos = measureMillis * 1_000_000L;
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        this.threadBean = bean instanceof com.sun.management.ThreadMXBean sun ? sun : null;
+        if (threadBean != null && threadBean.isThreadAllocatedMemorySupported()) {
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    public static void printHeader() {
+        System.out.printf("%-34s %10s %10s %14s %14s %12s %8s %8s%n",
+                "benchmark", "pop", "length", "ops/s", "ns/op", "B/op", "gc.count", "gc.ms");
+    }
+
+    public Result run(String name, int populationSize, int length, Operation operation) {
+        loop(operation, warmupNanos);
+
+        long gcCount = gcCount();
+        long gcTime = gcTime();
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        long ops = loop(operation, measureNanos);
+        long elapsed = System.nanoTime() - start;
+        long allocatedDelta = allocatedBytes() - allocated;
+
+        Result result = new Result(name, populationSize, length, ops, elapsed,
+                allocated < 0 ? -1 : allocatedDelta, gcCount() - gcCount, gcTime() - gcTime);
+        System.out.println(result);
+        return result;
+    }
+
+    private long loop(Operation operation, long budgetNanos) {
+        long ops = 0;
+        long deadline = System.nanoTime() + budgetNanos;
+        do {
+            sink = operation.run();
+            ops++;
+        } while (System.nanoTime() < deadline);
+        return ops;
+    }
+
+    private long allocatedBytes() {
+        if (threadBean == null || !threadBean.isThreadAllocatedMemoryEnabled()) return -1;
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : gcBeans) total += Math.max(0, gc.getCollectionCount());
+        return total;
+    }
+
+    private long gcTime() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : gcBeans) total += Math.max(0, gc.getCollectionTime());
+        return total;
+    }
+
+    @FunctionalInterface
+    public interface Operation {
+        Object run();
+    }
+
+    public static class Result {
+        private final String name;
+        private final int populationSize;
+        private final int length;
+        private final long operations;
+        private final long elapsedNanos;
+        private final long allocatedBytes;
+        private final long gcCount;
+        private final long gcMillis;
+
+        Result(String name, int populationSize, int length, long operations, long elapsedNanos,
+               long allocatedBytes, long gcCount, long gcMillis) {
+            this.name = name;
+            this.populationSize = populationSize;
+            this.length = length;
+            this.operations = operations;
+            this.elapsedNanos = elapsedNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.gcCount = gcCount;
+            this.gcMillis = gcMillis;
+        }
+
+        public double opsPerSecond() {
+            return operations * 1e9 / elapsedNanos;
+        }
+
+        public double nanosPerOp() {
+            return (double) elapsedNanos / operations;
+        }
+
+        public double bytesPerOp() {
+            return allocatedBytes < 0 ? Double.NaN : (double) allocatedBytes / operations;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-34s %10d %10d %14.1f %14.1f %12.1f %8d %8d",
+                    name, populationSize, length, opsPerSecond(), nanosPerOp(), bytesPerOp(), gcCount, gcMillis);
+        }
+    }
+}
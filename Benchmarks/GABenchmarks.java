@@ -0,0 +1,300 @@
+package Benchmarks;
+
+import CaseStudies.FlowShopMakespanFitness;
+import CaseStudies.JobSchedulingFitness;
+import GeneticAlgorithmLibrary.FitnessFunction;
+import GeneticAlgorithmLibrary.GAEngine;
+import GeneticAlgorithmLibrary.PackedPopulation;
+import GeneticAlgorithmLibrary.Population;
+import GeneticAlgorithmLibrary.Chromosome.BinaryChromosome;
+import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+import GeneticAlgorithmLibrary.Chromosome.FloatChromosome;
+import GeneticAlgorithmLibrary.Chromosome.IntegerChromosome;
+import GeneticAlgorithmLibrary.Chromosome.PermutationChromosome;
+import GeneticAlgorithmLibrary.Crossover.CrossoverMethod;
+import GeneticAlgorithmLibrary.Crossover.CycleCrossover;
+import GeneticAlgorithmLibrary.Crossover.OrderCrossover;
+import GeneticAlgorithmLibrary.Crossover.PartiallyMappedCrossover;
+import GeneticAlgorithmLibrary.Crossover.SinglePointCrossover;
+import GeneticAlgorithmLibrary.Crossover.TwoPointCrossover;
+import GeneticAlgorithmLibrary.Crossover.UniformCrossover;
+import GeneticAlgorithmLibrary.Mutation.BitFlipMutation;
+import GeneticAlgorithmLibrary.Mutation.FloatUniformMutation;
+import GeneticAlgorithmLibrary.Mutation.InsertMutation;
+import GeneticAlgorithmLibrary.Mutation.IntegerNeighborMutation;
+import GeneticAlgorithmLibrary.Mutation.InversionMutation;
+import GeneticAlgorithmLibrary.Mutation.MutationMethod;
+import GeneticAlgorithmLibrary.Mutation.SwapMutation;
+import GeneticAlgorithmLibrary.Replacement.DuplicateEliminatingReplacement;
+import GeneticAlgorithmLibrary.Replacement.ElitistReplacement;
+import GeneticAlgorithmLibrary.Replacement.GenerationalReplacement;
+import GeneticAlgorithmLibrary.Replacement.ReplacementMethod;
+import GeneticAlgorithmLibrary.Replacement.SteadyStateReplacement;
+import GeneticAlgorithmLibrary.Selection.AliasTableSelection;
+import GeneticAlgorithmLibrary.Selection.RankSelection;
+import GeneticAlgorithmLibrary.Selection.RouletteWheelSelection;
+import GeneticAlgorithmLibrary.Selection.SelectionMethod;
+import GeneticAlgorithmLibrary.Selection.StochasticUniversalSampling;
+import GeneticAlgorithmLibrary.Selection.TournamentSelection;
+import GeneticAlgorithmLibrary.Selection.TruncationSelection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Benchmark suite for the GeneticAlgorithmLibrary operators and the GAEngine generation loop.
+//
+// Usage: java Benchmarks.GABenchmarks [--pop=10,1000] [--len=10,1000000] [--only=crossover]
+//                                     [--max-cells=20000000] [--warmup=300] [--measure=1000]
+// Population-dependent benchmarks skip shapes whose pop * len exceeds --max-cells.
+public class GABenchmarks {
+
+    private static final int MACHINES = 4;
+    private static final int FLOW_SHOP_MACHINES = 10;
+
+    public static void main(String[] args) {
+        int[] populations = {10, 100, 1_000, 10_000, 100_000};
+        int[] lengths = {10, 100, 1_000, 10_000, 100_000, 1_000_000};
+        long maxCells = 20_000_000L;
+        long warmup = 300;
+        long measure = 1000;
+        String only = "";
+
+        for (String arg : args) {
+            if (arg.startsWith("--pop=")) populations = parseInts(arg.substring(6));
+            else if (arg.startsWith("--len=")) lengths = parseInts(arg.substring(6));
+            else if (arg.startsWith("--max-cells=")) maxCells = Long.parseLong(arg.substring(12));
+            else if (arg.startsWith("--warmup=")) warmup = Long.parseLong(arg.substring(9));
+            else if (arg.startsWith("--measure=")) measure = Long.parseLong(arg.substring(10));
+            else if (arg.startsWith("--only=")) only = arg.substring(7);
+            else throw new IllegalArgumentException("Unknown argument: " + arg);
+        }
+
+        BenchmarkHarness harness = new BenchmarkHarness(warmup, measure);
+        BenchmarkHarness.printHeader();
+
+        // Genome-length-only operators
+        for (int length : lengths) {
+            if (selected(only, "crossover")) {
+                crossover(harness, "crossover.singlePoint", new SinglePointCrossover(), length);
+                crossover(harness, "crossover.twoPoint", new TwoPointCrossover(), length);
+                crossover(harness, "crossover.uniform", new UniformCrossover(), length);
+                permutationCrossover(harness, "crossover.pmx", new PartiallyMappedCrossover(), length);
+                permutationCrossover(harness, "crossover.order", new OrderCrossover(), length);
+                permutationCrossover(harness, "crossover.cycle", new CycleCrossover(), length);
+            }
+            if (selected(only, "mutation")) {
+                mutation(harness, "mutation.integerNeighbor", new IntegerNeighborMutation(),
+                        integerChromosome(length, 1), length);
+                mutation(harness, "mutation.bitFlip", new BitFlipMutation(),
+                        binaryChromosome(length, 1), length);
+                mutation(harness, "mutation.floatUniform", new FloatUniformMutation(),
+                        floatChromosome(length, 1), length);
+                mutation(harness, "mutation.swap", new SwapMutation(),
+                        permutationChromosome(length, 1), length);
+                mutation(harness, "mutation.insert", new InsertMutation(),
+                        permutationChromosome(length, 1), length);
+                mutation(harness, "mutation.inversion", new InversionMutation(),
+                        permutationChromosome(length, 1), length);
+            }
+            if (selected(only, "fitness") && (long) length * FLOW_SHOP_MACHINES <= maxCells) {
+                flowShop(harness, "fitness.flowShop.full", false, length);
+                flowShop(harness, "fitness.flowShop.suffix", true, length);
+            }
+            if (selected(only, "fitness")) {
+                jobScheduling(harness, "fitness.jobScheduling.integer", integerChromosome(length, 5), length);
+                jobScheduling(harness, "fitness.jobScheduling.fallback", outOfRangeChromosome(length, 5), length);
+                jobScheduling(harness, "fitness.jobScheduling.float", floatChromosome(length, 5), length);
+            }
+        }
+
+        // Population-dependent operators and the engine
+        for (int populationSize : populations) {
+            for (int length : lengths) {
+                if ((long) populationSize * length > maxCells) continue;
+
+                if (selected(only, "selection")) {
+                    selection(harness, "selection.tournament", new TournamentSelection(3), populationSize, length);
+                    selection(harness, "selection.rouletteWheel", new RouletteWheelSelection(), populationSize, length);
+                    selection(harness, "selection.aliasTable", new AliasTableSelection(), populationSize, length);
+                    selection(harness, "selection.sus", new StochasticUniversalSampling(), populationSize, length);
+                    selection(harness, "selection.rank", new RankSelection(1.5), populationSize, length);
+                    selection(harness, "selection.truncation", new TruncationSelection(0.2), populationSize, length);
+                }
+                if (selected(only, "fitness")) {
+                    packedScheduling(harness, "fitness.jobScheduling.packed", populationSize, length);
+                }
+                if (selected(only, "replacement")) {
+                    replacement(harness, "replacement.generational", new GenerationalReplacement(), populationSize, length);
+                    replacement(harness, "replacement.elitist", new ElitistReplacement(2), populationSize, length);
+                    replacement(harness, "replacement.steadyState", new SteadyStateReplacement(2), populationSize, length);
+                    replacement(harness, "replacement.elitist.dedup", new DuplicateEliminatingReplacement(
+                            new ElitistReplacement(2), new IntegerNeighborMutation(), 1.0 / length, 3), populationSize, length);
+                }
+                if (selected(only, "engine")) {
+                    engine(harness, "engine.generation", populationSize, length);
+                    engine(harness, "engine.generation.batch", populationSize, length);
+                    engine(harness, "engine.generation.pooled", populationSize, length);
+                }
+            }
+        }
+    }
+
+    // --- Benchmarks ---
+    private static void crossover(BenchmarkHarness harness, String name, CrossoverMethod method, int length) {
+        List<Chromosome> parents = List.of(integerChromosome(length, 1), integerChromosome(length, 2));
+        harness.run(name, 2, length, () -> method.crossover(parents, 1.0));
+    }
+
+    private static void permutationCrossover(BenchmarkHarness harness, String name, CrossoverMethod method, int length) {
+        List<Chromosome> parents = List.of(permutationChromosome(length, 1), permutationChromosome(length, 2));
+        harness.run(name, 2, length, () -> method.crossover(parents, 1.0));
+    }
+
+    // Swapping the last two jobs: the incremental evaluator recomputes two rows instead of all.
+    private static void flowShop(BenchmarkHarness harness, String name, boolean incremental, int length) {
+        Random random = new Random(length);
+        double[][] times = new double[length][FLOW_SHOP_MACHINES];
+        for (double[] job : times) {
+            for (int k = 0; k < FLOW_SHOP_MACHINES; k++) job[k] = 1 + random.nextInt(99);
+        }
+        FlowShopMakespanFitness fitness = new FlowShopMakespanFitness(times);
+        fitness.setIncremental(incremental);
+        PermutationChromosome sequence = permutationChromosome(length, 3);
+        fitness.evaluate(sequence);
+        harness.run(name, 1, length, () -> {
+            sequence.swap(length - 2, length - 1);
+            return fitness.evaluate(sequence);
+        });
+    }
+
+    // Whole-genome evaluation; the fallback genome holds machine + MACHINES, which maps to the
+    // same machines but cannot take the in-range fast path.
+    private static void jobScheduling(BenchmarkHarness harness, String name, Chromosome chromosome, int length) {
+        JobSchedulingFitness fitness = fitness(length);
+        harness.run(name, 1, length, () -> fitness.evaluate(chromosome));
+    }
+
+    private static void packedScheduling(BenchmarkHarness harness, String name, int populationSize, int length) {
+        JobSchedulingFitness fitness = fitness(length);
+        PackedPopulation population = new PackedPopulation(populationSize, length, 0, MACHINES - 1);
+        population.initialize(new Random(17));
+        harness.run(name, populationSize, length, () -> {
+            fitness.evaluateAll(population);
+            return population;
+        });
+    }
+
+    private static void mutation(BenchmarkHarness harness, String name, MutationMethod method,
+                                 Chromosome chromosome, int length) {
+        List<Chromosome> batch = List.of(chromosome);
+        double rate = 1.0 / length;
+        harness.run(name, 1, length, () -> {
+            method.mutate(batch, rate);
+            return chromosome;
+        });
+    }
+
+    private static void selection(BenchmarkHarness harness, String name, SelectionMethod method,
+                                  int populationSize, int length) {
+        Population population = evaluatedPopulation(populationSize, length, 7);
+        // per-generation tables and rankings are built once, as GAEngine does, so this times the draws
+        method.prepare(population);
+        harness.run(name, populationSize, length, () -> method.select(population));
+    }
+
+    private static void replacement(BenchmarkHarness harness, String name, ReplacementMethod method,
+                                    int populationSize, int length) {
+        Population current = evaluatedPopulation(populationSize, length, 11);
+        Population offspring = evaluatedPopulation(populationSize, length, 13);
+        harness.run(name, populationSize, length, () -> method.replace(current, offspring));
+    }
+
+    private static void engine(BenchmarkHarness harness, String name, int populationSize, int length) {
+        boolean pooled = name.endsWith(".pooled");
+        boolean batch = name.endsWith(".batch");
+        GAEngine ga = new GAEngine(populationSize, Integer.MAX_VALUE, 0.7, 1.0 / length,
+                new IntegerChromosome(length, 0, MACHINES - 1, 42), fitness(length));
+        ga.setSelectionMethod(new TournamentSelection(3));
+        ga.setCrossoverMethod(new TwoPointCrossover());
+        ga.setMutationMethod(new IntegerNeighborMutation());
+        ga.setReplacementMethod(pooled || batch ? new ElitistReplacement(2) : new SteadyStateReplacement(2));
+        ga.setPooled(pooled);
+        if (batch) ga.setOffspringCount(populationSize);
+        ga.initialize();
+        harness.run(name, populationSize, length, () -> {
+            ga.step();
+            return ga.getBest();
+        });
+    }
+
+    // --- Fixtures ---
+    static JobSchedulingFitness fitness(int jobs) {
+        Random random = new Random(jobs);
+        double[] processingTimes = new double[jobs];
+        double total = 0;
+        for (int i = 0; i < jobs; i++) {
+            processingTimes[i] = 1 + random.nextInt(20);
+            total += processingTimes[i];
+        }
+        return new JobSchedulingFitness(processingTimes, MACHINES, total / MACHINES * 1.1);
+    }
+
+    private static Population evaluatedPopulation(int populationSize, int length, int seed) {
+        FitnessFunction fitness = fitness(length);
+        Population population = new Population(populationSize);
+        Random random = new Random(seed);
+        for (int i = 0; i < populationSize; i++) {
+            Chromosome c = integerChromosome(length, random.nextInt() & 0x7fffffff);
+            c.setFitness(fitness.evaluate(c));
+            population.add(c);
+        }
+        return population;
+    }
+
+    private static IntegerChromosome integerChromosome(int length, int seed) {
+        IntegerChromosome c = new IntegerChromosome(length, 0, MACHINES - 1, seed);
+        c.setSeed(seed);
+        c.initialize();
+        return c;
+    }
+
+    private static IntegerChromosome outOfRangeChromosome(int length, int seed) {
+        IntegerChromosome c = integerChromosome(length, seed);
+        int[] genes = (int[]) c.getGenes();
+        for (int i = 0; i < length; i++) genes[i] += MACHINES;
+        c.markGenesChanged();
+        return c;
+    }
+
+    private static BinaryChromosome binaryChromosome(int length, int seed) {
+        BinaryChromosome c = new BinaryChromosome(length, seed);
+        c.setSeed(seed);
+        c.initialize();
+        return c;
+    }
+
+    private static FloatChromosome floatChromosome(int length, int seed) {
+        FloatChromosome c = new FloatChromosome(length, 0.0, 1.0, seed);
+        c.setSeed(seed);
+        c.initialize();
+        return c;
+    }
+
+    private static PermutationChromosome permutationChromosome(int length, int seed) {
+        PermutationChromosome c = new PermutationChromosome(length, seed);
+        c.initialize();
+        return c;
+    }
+
+    private static boolean selected(String only, String group) {
+        return only.isEmpty() || only.equals(group);
+    }
+
+    private static int[] parseInts(String csv) {
+        String[] parts = csv.split(",");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) values[i] = Integer.parseInt(parts[i].trim());
+        return values;
+    }
+}
@@ -0,0 +1,98 @@
+package CaseStudies;
+
+import GeneticAlgorithmLibrary.*;
+import GeneticAlgorithmLibrary.Chromosome.*;
+import GeneticAlgorithmLibrary.Selection.*;
+import GeneticAlgorithmLibrary.Crossover.*;
+import GeneticAlgorithmLibrary.Mutation.*;
+import GeneticAlgorithmLibrary.Replacement.*;
+
+
+// Evaluations-to-target comparison on JobSchedulingFitness: fixed rates against FuzzyRateController,
+// over several seeds, each run stopping once the best makespan is within --gap of the lower bound
+// max(total / machines, longest job) or after --generations.
+//
+// Usage: java CaseStudies.AdaptiveRatesDemo [--jobs=500] [--machines=16] [--gap=0.03]
+//            [--generations=1000] [--runs=10]
+public class AdaptiveRatesDemo {
+
+    public static void main(String[] args) {
+        int jobs = 500;
+        int machines = 16;
+        double gap = 0.03;
+        int generations = 1000;
+        int runs = 10;
+        for (String arg : args) {
+            if (arg.startsWith("--jobs=")) jobs = Integer.parseInt(arg.substring(7));
+            else if (arg.startsWith("--machines=")) machines = Integer.parseInt(arg.substring(11));
+            else if (arg.startsWith("--gap=")) gap = Double.parseDouble(arg.substring(6));
+            else if (arg.startsWith("--generations=")) generations = Integer.parseInt(arg.substring(14));
+            else if (arg.startsWith("--runs=")) runs = Integer.parseInt(arg.substring(7));
+            else throw new IllegalArgumentException("Unknown argument: " + arg);
+        }
+
+        SchedulingInstance instance = InstanceGenerator.generate(jobs, machines,
+                InstanceGenerator.Distribution.UNIFORM, 1, 1.1);
+        JobSchedulingFitness fitness = instance.toFitnessFunction();
+        double total = 0.0, longest = 0.0;
+        for (double t : instance.getProcessingTimes()) {
+            total += t;
+            longest = Math.max(longest, t);
+        }
+        double lowerBound = Math.max(total / machines, longest);
+        double target = lowerBound * (1.0 + gap);
+
+        System.out.printf("=== Adaptive rates: %d jobs on %d machines, target makespan %.2f (lower bound %.2f + %.1f%%) ===%n%n",
+                jobs, machines, target, lowerBound, gap * 100);
+        System.out.printf("%-6s %22s %22s%n", "seed", "fixed rates", "fuzzy controller");
+
+        long fixedTotal = 0, fuzzyTotal = 0;
+        int fixedReached = 0, fuzzyReached = 0;
+        for (int seed = 1; seed <= runs; seed++) {
+            Result fixed = evaluationsToTarget(fitness, null, target, generations, seed);
+            FuzzyRateController controller = new FuzzyRateController(0.5 / jobs, 8.0 / jobs, 0.5, 1.0);
+            Result fuzzy = evaluationsToTarget(fitness, controller, target, generations, seed);
+            System.out.printf("%-6d %22s %22s%n", seed, fixed, fuzzy);
+            fixedTotal += fixed.evaluations;
+            fuzzyTotal += fuzzy.evaluations;
+            if (fixed.reached) fixedReached++;
+            if (fuzzy.reached) fuzzyReached++;
+        }
+        System.out.printf("%nMean evaluations: fixed %d (%d/%d reached), fuzzy %d (%d/%d reached), ratio %.2f%n",
+                fixedTotal / runs, fixedReached, runs, fuzzyTotal / runs, fuzzyReached, runs,
+                (double) fixedTotal / fuzzyTotal);
+    }
+
+    private record Result(boolean reached, long evaluations) {
+        @Override
+        public String toString() {
+            return evaluations + (reached ? " evals" : " evals (missed)");
+        }
+    }
+
+    private static Result evaluationsToTarget(JobSchedulingFitness fitness, RateController controller,
+                                              double target, int generations, long seed) {
+        int jobs = fitness.getProcessingTimes().length;
+        int machines = fitness.getNumberOfMachines();
+        GAEngine ga = new GAEngine(50, generations, 0.9, 1.0 / jobs,
+                new IntegerChromosome(jobs, 0, machines - 1, 42), fitness);
+        ga.setSelectionMethod(new TournamentSelection(3));
+        ga.setCrossoverMethod(new UniformCrossover());
+        ga.setMutationMethod(new IntegerNeighborMutation());
+        ga.setReplacementMethod(new ElitistReplacement(2));
+        ga.setOffspringCount(50);
+        ga.setSeed(seed);
+        if (controller != null) {
+            ga.setDiversityTracker(new DiversityTracker());
+            ga.setRateController(controller);
+        }
+
+        ga.initialize();
+        double makespan = fitness.makespan((IntegerChromosome) ga.getBest());
+        while (makespan > target && ga.getGeneration() < generations) {
+            ga.step();
+            makespan = fitness.makespan((IntegerChromosome) ga.getBest());
+        }
+        return new Result(makespan <= target, ga.getTotalEvaluations());
+    }
+}
@@ -0,0 +1,145 @@
+package CaseStudies;
+
+import GeneticAlgorithmLibrary.*;
+import GeneticAlgorithmLibrary.Chromosome.*;
+import GeneticAlgorithmLibrary.Distributed.*;
+import GeneticAlgorithmLibrary.Selection.*;
+import GeneticAlgorithmLibrary.Crossover.*;
+import GeneticAlgorithmLibrary.Mutation.*;
+import GeneticAlgorithmLibrary.Replacement.*;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+
+// Master/worker evaluation of the job-scheduling GA, with an artificial per-genome cost standing
+// in for an expensive simulation.
+//
+//   java CaseStudies.DistributedEvaluationDemo
+//       starts three workers on loopback (the third twice as slow), stops the first one after
+//       generation 10 and checks the result against a local run with the same seed
+//   java CaseStudies.DistributedEvaluationDemo --worker=7070
+//       runs a standalone worker JVM on port 7070
+//   java CaseStudies.DistributedEvaluationDemo --workers=hostA:7070,hostB:7070
+//       uses already running workers instead of local ones
+public class DistributedEvaluationDemo {
+
+    private static final int JOBS = 200;
+    private static final int MACHINES = 8;
+    private static final long COST_MICROS = 200;
+
+    public static void main(String[] args) throws Exception {
+        int workerPort = -1;
+        List<InetSocketAddress> remote = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--worker=")) {
+                workerPort = Integer.parseInt(arg.substring(9));
+            } else if (arg.startsWith("--workers=")) {
+                for (String hostPort : arg.substring(10).split(",")) {
+                    int colon = hostPort.lastIndexOf(':');
+                    remote.add(new InetSocketAddress(hostPort.substring(0, colon), Integer.parseInt(hostPort.substring(colon + 1))));
+                }
+            } else {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+
+        JobSchedulingFitness problem = InstanceGenerator.generate(JOBS, MACHINES,
+                InstanceGenerator.Distribution.BIMODAL, 11, 1.1).toFitnessFunction();
+        Chromosome prototype = new IntegerChromosome(JOBS, 0, MACHINES - 1, 42);
+
+        if (workerPort >= 0) {
+            EvaluationWorker worker = new EvaluationWorker(new InetSocketAddress(workerPort), prototype,
+                    new CostlyFitness(problem, COST_MICROS)).start();
+            System.out.println("Evaluation worker listening on " + worker.getAddress());
+            Thread.currentThread().join();
+        }
+
+        List<EvaluationWorker> local = new ArrayList<>();
+        List<InetSocketAddress> addresses = remote;
+        if (remote.isEmpty()) {
+            InetAddress loopback = InetAddress.getLoopbackAddress();
+            long[] costs = {COST_MICROS, COST_MICROS, 2 * COST_MICROS};
+            addresses = new ArrayList<>();
+            for (long cost : costs) {
+                EvaluationWorker worker = new EvaluationWorker(new InetSocketAddress(loopback, 0), prototype,
+                        new CostlyFitness(problem, cost)).start();
+                local.add(worker);
+                addresses.add(worker.getAddress());
+            }
+        }
+
+        System.out.println("=== Distributed evaluation on " + addresses.size() + " workers ===\n");
+        Chromosome localBest;
+        long localNanos;
+        {
+            long started = System.nanoTime();
+            localBest = engine(new CostlyFitness(problem, COST_MICROS), prototype, null).run();
+            localNanos = System.nanoTime() - started;
+        }
+
+        try (DistributedFitnessFunction distributed = new DistributedFitnessFunction(addresses)) {
+            distributed.setBatchSize(8);
+            distributed.setInFlightPerWorker(2);
+            GenerationListener killer = stats -> {
+                if (stats.getGeneration() == 10 && !local.isEmpty()) {
+                    System.out.println("-- stopping worker " + local.get(0).getAddress() + " after generation 10");
+                    local.get(0).close();
+                }
+            };
+
+            long started = System.nanoTime();
+            Chromosome best = engine(distributed, prototype, killer).run();
+            long nanos = System.nanoTime() - started;
+
+            System.out.printf("%nLocal run:        best fitness %.6f in %.2f s%n", localBest.getFitness(), localNanos / 1e9);
+            System.out.printf("Distributed run:  best fitness %.6f in %.2f s (%s)%n", best.getFitness(), nanos / 1e9,
+                    best.getFitness() == localBest.getFitness() ? "identical" : "DIFFERENT");
+            System.out.println("Batches per worker: " + Arrays.toString(distributed.getCompletedBatches())
+                    + ", re-dispatched: " + distributed.getRedispatched()
+                    + ", live workers: " + distributed.getLiveWorkers());
+        } finally {
+            for (EvaluationWorker worker : local) worker.close();
+        }
+    }
+
+    private static GAEngine engine(FitnessFunction fitness, Chromosome prototype, GenerationListener listener) {
+        GAEngine ga = new GAEngine(64, 30, 0.8, 1.0 / JOBS, prototype, fitness);
+        ga.setSelectionMethod(new TournamentSelection(3));
+        ga.setCrossoverMethod(new UniformCrossover());
+        ga.setMutationMethod(new IntegerNeighborMutation());
+        ga.setReplacementMethod(new ElitistReplacement(2));
+        ga.setOffspringCount(64);
+        ga.setSeed(3);
+        if (listener != null) ga.addGenerationListener(listener);
+        return ga;
+    }
+
+    // Same scores as the wrapped function, plus a fixed delay per genome.
+    private static final class CostlyFitness implements FitnessFunction {
+        private final FitnessFunction inner;
+        private final long costNanos;
+
+        CostlyFitness(FitnessFunction inner, long costMicros) {
+            this.inner = inner;
+            this.costNanos = costMicros * 1_000;
+        }
+
+        @Override
+        public double evaluate(Chromosome chromosome) {
+            long until = System.nanoTime() + costNanos;
+            double fitness = inner.evaluate(chromosome);
+            while (System.nanoTime() < until) LockSupport.parkNanos(until - System.nanoTime());
+            return fitness;
+        }
+
+        @Override
+        public boolean isThreadSafe() {
+            return inner.isThreadSafe();
+        }
+    }
+}
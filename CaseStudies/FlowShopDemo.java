@@ -0,0 +1,49 @@
+package CaseStudies;
+
+import GeneticAlgorithmLibrary.*;
+import GeneticAlgorithmLibrary.Chromosome.*;
+import GeneticAlgorithmLibrary.Selection.*;
+import GeneticAlgorithmLibrary.Crossover.*;
+import GeneticAlgorithmLibrary.Mutation.*;
+import GeneticAlgorithmLibrary.Replacement.*;
+
+import java.util.Random;
+
+
+// Sequencing counterpart of JobSchedulingDemo: finds a job order for a permutation flow shop.
+public class FlowShopDemo {
+
+    public static void main(String[] args) {
+        System.out.println("=== Genetic Algorithm for Flow-Shop Sequencing ===\n");
+
+        // Problem setup: random instance (times 1..99, as in the Taillard benchmarks)
+        int jobs = 20;
+        int machines = 5;
+        Random random = new Random(42);
+        double[][] processingTimes = new double[jobs][machines];
+        for (int job = 0; job < jobs; job++) {
+            for (int k = 0; k < machines; k++) {
+                processingTimes[job][k] = 1 + random.nextInt(99);
+            }
+        }
+        FlowShopMakespanFitness fitnessFunction = new FlowShopMakespanFitness(processingTimes);
+
+        GAEngine ga = new GAEngine(60, 200, 0.9, 0.02,
+                new PermutationChromosome(jobs, 42), fitnessFunction);
+        ga.setSelectionMethod(new TournamentSelection(3));
+        ga.setCrossoverMethod(new OrderCrossover());
+        ga.setMutationMethod(new InsertMutation());
+        ga.setReplacementMethod(new ElitistReplacement(2));
+        ga.setOffspringCount(60);
+        ga.setStallGenerations(50);
+        ga.setSeed(42);
+        ga.addGenerationListener(new ConsoleGenerationListener());
+
+        System.out.println("\n Running Genetic Algorithm...\n");
+        PermutationChromosome best = (PermutationChromosome) ga.run();
+
+        System.out.println("\n Finished!");
+        System.out.println("Best sequence found:\n" + best);
+        System.out.println("Makespan: " + fitnessFunction.makespan(best));
+    }
+}
@@ -0,0 +1,100 @@
+package CaseStudies;
+
+import GeneticAlgorithmLibrary.FitnessFunction;
+import GeneticAlgorithmLibrary.Chromosome.*;
+
+
+// Permutation flow shop: every job visits machines 0..m-1 in order, and jobs are processed in
+// the order of the PermutationChromosome. Fitness = 1 / (1 + makespan).
+//
+// In incremental mode the completion-time table (position x machine) is kept on the chromosome.
+// Rows before the first changed position are still valid, so after a mutation near the end of
+// the sequence only the suffix is recomputed.
+public class FlowShopMakespanFitness implements FitnessFunction {
+
+    private final int jobs;
+    private final int machines;
+    private final double[] processingTimes;   // [job * machines + machine]
+    private boolean incremental = true;
+
+    public FlowShopMakespanFitness(double[][] processingTimes) {
+        if (processingTimes.length == 0 || processingTimes[0].length == 0) {
+            throw new IllegalArgumentException("At least one job and one machine are required");
+        }
+        this.jobs = processingTimes.length;
+        this.machines = processingTimes[0].length;
+        this.processingTimes = new double[jobs * machines];
+        for (int job = 0; job < jobs; job++) {
+            if (processingTimes[job].length != machines) {
+                throw new IllegalArgumentException("Every job needs a time for every machine");
+            }
+            System.arraycopy(processingTimes[job], 0, this.processingTimes, job * machines, machines);
+        }
+    }
+
+    public int getJobs() { return jobs; }
+    public int getMachines() { return machines; }
+
+    // Keep the completion-time table on each chromosome and recompute only changed suffixes
+    public void setIncremental(boolean incremental) { this.incremental = incremental; }
+    public boolean isIncremental() { return incremental; }
+
+    @Override
+    public double evaluate(Chromosome chromosome) {
+        if (!(chromosome instanceof PermutationChromosome))
+            throw new IllegalArgumentException("Unsupported chromosome type for FlowShopMakespanFitness");
+
+        return 1.0 / (1.0 + makespan((PermutationChromosome) chromosome));
+    }
+
+    // All evaluation state lives on the chromosome being evaluated.
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    public double makespan(PermutationChromosome sequence) {
+        if (sequence.getLength() != jobs) {
+            throw new IllegalArgumentException("Sequence length must equal the number of jobs");
+        }
+        if (!incremental) {
+            return makespanFull(sequence);
+        }
+
+        double[] completion = sequence.getEvaluationCache();
+        int from = sequence.getFirstChangedPosition();
+        if (completion == null || completion.length != jobs * machines) {
+            completion = new double[jobs * machines];
+            sequence.setEvaluationCache(completion);
+            from = 0;
+        }
+
+        // completion[pos][k] = max(completion[pos - 1][k], completion[pos][k - 1]) + p[job][k]
+        for (int pos = from; pos < jobs; pos++) {
+            int row = pos * machines;
+            int times = sequence.get(pos) * machines;
+            double done = 0.0;
+            for (int k = 0; k < machines; k++) {
+                double previousJob = pos > 0 ? completion[row - machines + k] : 0.0;
+                done = Math.max(previousJob, done) + processingTimes[times + k];
+                completion[row + k] = done;
+            }
+        }
+        sequence.clearChanges();
+        return completion[jobs * machines - 1];
+    }
+
+    // Same recurrence with a single rolling row; nothing is cached.
+    private double makespanFull(PermutationChromosome sequence) {
+        double[] completion = new double[machines];
+        for (int pos = 0; pos < jobs; pos++) {
+            int times = sequence.get(pos) * machines;
+            double done = 0.0;
+            for (int k = 0; k < machines; k++) {
+                done = Math.max(completion[k], done) + processingTimes[times + k];
+                completion[k] = done;
+            }
+        }
+        return completion[machines - 1];
+    }
+}
@@ -0,0 +1,220 @@
+package CaseStudies;
+
+import FuzzyLogicLibrary.Defuzzification.CentroidDefuzzifier;
+import FuzzyLogicLibrary.FuzzyLogicEngine.FuzzySystem;
+import FuzzyLogicLibrary.MembershipFunctions.TriangularMF;
+import FuzzyLogicLibrary.Rules.FuzzyRule;
+import FuzzyLogicLibrary.Rules.RuleAntecedent;
+import FuzzyLogicLibrary.Rules.RuleBase;
+import FuzzyLogicLibrary.Rules.RuleConsequent;
+import FuzzyLogicLibrary.Variables.FuzzySet;
+import FuzzyLogicLibrary.Variables.Input;
+import FuzzyLogicLibrary.Variables.LinguisticVariable;
+import FuzzyLogicLibrary.Variables.Output;
+import GeneticAlgorithmLibrary.GAEngine;
+import GeneticAlgorithmLibrary.GenerationStats;
+import GeneticAlgorithmLibrary.RateController;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+
+// Fuzzy control of the GA rates. After every generation three inputs, each scaled to [0, 1], go
+// through two Mamdani systems (centroid defuzzification):
+//   progress   - relative gain of the best-so-far fitness per generation over the last `window`
+//                generations, divided by progressScale
+//   stagnation - generations since the best-so-far last improved, divided by stallHorizon
+//   diversity  - the population's locus entropy when the engine has a DiversityTracker,
+//                otherwise the fitness spread (best - worst) / |best|
+// Their outputs are levels in [0, 1]: the mutation level picks a rate between minMutation and
+// maxMutation on a log scale, the crossover level one between minCrossover and maxCrossover.
+// When no rule fires the rates are left as they are.
+public class FuzzyRateController implements RateController {
+
+    private final FuzzySystem mutationSystem;
+    private final FuzzySystem crossoverSystem;
+    private final double minMutation, maxMutation;
+    private final double minCrossover, maxCrossover;
+
+    private int window = 5;
+    private int stallHorizon = 20;
+    private double progressScale = 0.002;
+
+    // best-so-far of the last window + 1 generations, as a ring
+    private double[] history = new double[window + 1];
+    private int lastImprovement;
+    private double lastBest;
+
+    private final Map<String, Double> inputs = new HashMap<>();
+    private final CentroidDefuzzifier centroid = new CentroidDefuzzifier();
+
+    public FuzzyRateController(double minMutation, double maxMutation, double minCrossover, double maxCrossover) {
+        this(defaultMutationSystem(), defaultCrossoverSystem(), minMutation, maxMutation, minCrossover, maxCrossover);
+    }
+
+    // Custom rule bases: both systems read the inputs "progress", "stagnation" and "diversity"
+    // and produce a level on [0, 1].
+    public FuzzyRateController(FuzzySystem mutationSystem, FuzzySystem crossoverSystem,
+                               double minMutation, double maxMutation, double minCrossover, double maxCrossover) {
+        if (mutationSystem == null || crossoverSystem == null) {
+            throw new IllegalArgumentException("Fuzzy systems cannot be null");
+        }
+        if (!(0 < minMutation && minMutation <= maxMutation && maxMutation <= 1)) {
+            throw new IllegalArgumentException("Mutation bounds must satisfy 0 < min <= max <= 1");
+        }
+        if (!(0 <= minCrossover && minCrossover <= maxCrossover && maxCrossover <= 1)) {
+            throw new IllegalArgumentException("Crossover bounds must satisfy 0 <= min <= max <= 1");
+        }
+        this.mutationSystem = mutationSystem;
+        this.crossoverSystem = crossoverSystem;
+        this.minMutation = minMutation;
+        this.maxMutation = maxMutation;
+        this.minCrossover = minCrossover;
+        this.maxCrossover = maxCrossover;
+    }
+
+    public void setWindow(int window) {
+        if (window < 1) throw new IllegalArgumentException("Window must be at least 1");
+        this.window = window;
+        this.history = new double[window + 1];
+    }
+
+    public void setStallHorizon(int stallHorizon) {
+        if (stallHorizon < 1) throw new IllegalArgumentException("Stall horizon must be at least 1");
+        this.stallHorizon = stallHorizon;
+    }
+
+    // Relative improvement per generation that counts as full progress (default 0.2%)
+    public void setProgressScale(double progressScale) {
+        if (progressScale <= 0) throw new IllegalArgumentException("Progress scale must be positive");
+        this.progressScale = progressScale;
+    }
+
+    @Override
+    public void adapt(GenerationStats stats, GAEngine engine) {
+        int generation = stats.getGeneration();
+        double best = stats.getBestSoFar();
+        if (generation == 0) {
+            Arrays.fill(history, best);
+            lastImprovement = 0;
+            lastBest = best;
+        }
+        if (best > lastBest) {
+            lastBest = best;
+            lastImprovement = generation;
+        }
+        history[generation % history.length] = best;
+
+        double past = history[(generation + 1) % history.length];  // best-so-far `window` generations ago
+        int span = Math.min(generation, window);
+        double gain = best - past;
+        double progress;
+        if (span == 0 || gain <= 0) progress = 0.0;
+        else if (past == 0) progress = 1.0;
+        else progress = gain / (Math.abs(past) * span) / progressScale;
+
+        double diversity = stats.hasDiversity() ? stats.getLocusEntropy()
+                : stats.getBestFitness() == 0 ? 0.0
+                : (stats.getBestFitness() - stats.getWorstFitness()) / Math.abs(stats.getBestFitness());
+
+        inputs.put("progress", clamp01(progress));
+        inputs.put("stagnation", clamp01((generation - lastImprovement) / (double) stallHorizon));
+        inputs.put("diversity", clamp01(diversity));
+
+        double mutationLevel = mutationSystem.evaluateMamdani(inputs, centroid);
+        double crossoverLevel = crossoverSystem.evaluateMamdani(inputs, centroid);
+        if (!Double.isNaN(mutationLevel)) {
+            engine.setMutationRate(minMutation * Math.pow(maxMutation / minMutation, clamp01(mutationLevel)));
+        }
+        if (!Double.isNaN(crossoverLevel)) {
+            engine.setCrossoverRate(minCrossover + (maxCrossover - minCrossover) * clamp01(crossoverLevel));
+        }
+    }
+
+    // lastImprovement, lastBest and the history ring, doubles as raw bits
+    @Override
+    public long[] getState() {
+        long[] state = new long[2 + history.length];
+        state[0] = lastImprovement;
+        state[1] = Double.doubleToRawLongBits(lastBest);
+        for (int i = 0; i < history.length; i++) {
+            state[2 + i] = Double.doubleToRawLongBits(history[i]);
+        }
+        return state;
+    }
+
+    @Override
+    public void setState(long[] state) {
+        if (state == null || state.length != 2 + history.length) {
+            throw new IllegalArgumentException("Not a FuzzyRateController state for window " + window);
+        }
+        lastImprovement = (int) state[0];
+        lastBest = Double.longBitsToDouble(state[1]);
+        for (int i = 0; i < history.length; i++) {
+            history[i] = Double.longBitsToDouble(state[2 + i]);
+        }
+    }
+
+    private static double clamp01(double x) {
+        return Math.max(0.0, Math.min(1.0, x));
+    }
+
+    // Mutation: fast progress -> low; stagnation or a converged population -> high.
+    public static FuzzySystem defaultMutationSystem() {
+        Output level = new Output("mutation", 0.0, 1.0, 101);
+        FuzzySet low = levelSet(level, "mutation_low", 0.0);
+        FuzzySet medium = levelSet(level, "mutation_medium", 0.5);
+        FuzzySet high = levelSet(level, "mutation_high", 1.0);
+
+        RuleBase rules = new RuleBase();
+        rules.addRule(new FuzzyRule(new RuleAntecedent().addTerm("progress_high"), RuleConsequent.mamdani(low)));
+        rules.addRule(new FuzzyRule(new RuleAntecedent().addTerm("progress_medium"), RuleConsequent.mamdani(medium)));
+        rules.addRule(new FuzzyRule(new RuleAntecedent().addTerm("progress_low").addAndTerm("diversity_high"),
+                RuleConsequent.mamdani(medium)));
+        rules.addRule(new FuzzyRule(new RuleAntecedent().addTerm("progress_low").addAndTerm("diversity_medium"),
+                RuleConsequent.mamdani(medium)));
+        rules.addRule(new FuzzyRule(new RuleAntecedent().addTerm("progress_low").addAndTerm("stagnation_medium"),
+                RuleConsequent.mamdani(high)));
+        rules.addRule(new FuzzyRule(new RuleAntecedent().addTerm("stagnation_high"), RuleConsequent.mamdani(high)));
+        rules.addRule(new FuzzyRule(new RuleAntecedent().addTerm("diversity_low"), RuleConsequent.mamdani(high)));
+        return system(level, rules);
+    }
+
+    // Crossover: recombine while the population is diverse or improving, back off once it has converged.
+    public static FuzzySystem defaultCrossoverSystem() {
+        Output level = new Output("crossover", 0.0, 1.0, 101);
+        FuzzySet low = levelSet(level, "crossover_low", 0.0);
+        FuzzySet medium = levelSet(level, "crossover_medium", 0.5);
+        FuzzySet high = levelSet(level, "crossover_high", 1.0);
+
+        RuleBase rules = new RuleBase();
+        rules.addRule(new FuzzyRule(new RuleAntecedent().addTerm("diversity_low"), RuleConsequent.mamdani(low)));
+        rules.addRule(new FuzzyRule(new RuleAntecedent().addTerm("diversity_medium"), RuleConsequent.mamdani(medium)));
+        rules.addRule(new FuzzyRule(new RuleAntecedent().addTerm("diversity_high"), RuleConsequent.mamdani(high)));
+        rules.addRule(new FuzzyRule(new RuleAntecedent().addTerm("progress_high"), RuleConsequent.mamdani(high)));
+        return system(level, rules);
+    }
+
+    private static FuzzySystem system(Output output, RuleBase rules) {
+        FuzzySystem system = new FuzzySystem();
+        for (String name : new String[] {"progress", "stagnation", "diversity"}) {
+            Input input = new Input(name, 0.0, 1.0);
+            levelSet(input, name + "_low", 0.0);
+            levelSet(input, name + "_medium", 0.5);
+            levelSet(input, name + "_high", 1.0);
+            system.addInput(input);
+        }
+        system.setOutput(output);
+        system.setRuleBase(rules);
+        return system;
+    }
+
+    // Triangles of half-width 0.5; the outer ones reach past [0, 1] so they peak at the ends
+    // (TriangularMF is 0 at its left corner even when that is also the peak).
+    private static FuzzySet levelSet(LinguisticVariable variable, String name, double peak) {
+        FuzzySet set = new FuzzySet(name, new TriangularMF(peak - 0.5, peak, peak + 0.5));
+        variable.addFuzzySet(set);
+        return set;
+    }
+}
@@ -0,0 +1,77 @@
+package CaseStudies;
+
+import GeneticAlgorithmLibrary.Randomness.SplitMix64;
+
+import java.nio.file.Path;
+
+
+// Reproducible synthetic job-scheduling instances: the same (jobs, machines, distribution, seed)
+// always gives the same processing times. Times are rounded to 2 decimals so the binary and
+// CSV forms of an instance hold exactly the same values.
+//
+// Usage: java CaseStudies.InstanceGenerator --jobs=1000000 --machines=64
+//            [--distribution=uniform|heavy-tailed|bimodal] [--seed=1] [--slack=1.1] --out=instance
+// writes instance.bin and instance.csv
+public class InstanceGenerator {
+
+    public enum Distribution {
+        UNIFORM,        // U(1, 100)
+        HEAVY_TAILED,   // Pareto(x_m = 1, alpha = 1.5), capped at 10 000
+        BIMODAL         // 70% short jobs N(10, 2), 30% long jobs N(80, 10), at least 1
+    }
+
+    private static final double PARETO_ALPHA = 1.5;
+    private static final double PARETO_CAP = 10_000.0;
+
+    // Capacity = slack * (total work / machines), i.e. slack 1.1 leaves 10% headroom per machine.
+    public static SchedulingInstance generate(int jobs, int machines, Distribution distribution,
+                                              long seed, double slack) {
+        if (jobs < 1 || machines < 1) {
+            throw new IllegalArgumentException("Jobs and machines must be positive");
+        }
+        SplitMix64 random = new SplitMix64(seed);
+        double[] times = new double[jobs];
+        double total = 0.0;
+        for (int i = 0; i < jobs; i++) {
+            double t = switch (distribution) {
+                case UNIFORM -> 1.0 + 99.0 * random.nextDouble();
+                case HEAVY_TAILED -> Math.min(PARETO_CAP, Math.pow(1.0 - random.nextDouble(), -1.0 / PARETO_ALPHA));
+                case BIMODAL -> random.nextDouble() < 0.7
+                        ? 10.0 + 2.0 * random.nextGaussian()
+                        : 80.0 + 10.0 * random.nextGaussian();
+            };
+            times[i] = Math.max(1.0, Math.round(t * 100.0) / 100.0);
+            total += times[i];
+        }
+        return new SchedulingInstance(times, machines, slack * total / machines);
+    }
+
+    public static void main(String[] args) {
+        int jobs = 10_000;
+        int machines = 16;
+        Distribution distribution = Distribution.UNIFORM;
+        long seed = 1;
+        double slack = 1.1;
+        String out = null;
+
+        for (String arg : args) {
+            if (arg.startsWith("--jobs=")) jobs = Integer.parseInt(arg.substring(7));
+            else if (arg.startsWith("--machines=")) machines = Integer.parseInt(arg.substring(11));
+            else if (arg.startsWith("--distribution=")) distribution = Distribution.valueOf(arg.substring(15).toUpperCase().replace('-', '_'));
+            else if (arg.startsWith("--seed=")) seed = Long.parseLong(arg.substring(7));
+            else if (arg.startsWith("--slack=")) slack = Double.parseDouble(arg.substring(8));
+            else if (arg.startsWith("--out=")) out = arg.substring(6);
+            else throw new IllegalArgumentException("Unknown argument: " + arg);
+        }
+        if (out == null) {
+            throw new IllegalArgumentException("--out is required");
+        }
+
+        long started = System.nanoTime();
+        SchedulingInstance instance = generate(jobs, machines, distribution, seed, slack);
+        InstanceIO.writeBinary(instance, Path.of(out + ".bin"));
+        InstanceIO.writeCsv(instance, Path.of(out + ".csv"));
+        System.out.printf("Wrote %d jobs (%s, seed %d) to %s.bin and %s.csv in %.1f ms%n",
+                jobs, distribution, seed, out, out, (System.nanoTime() - started) / 1e6);
+    }
+}
@@ -0,0 +1,284 @@
+package CaseStudies;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+
+// Reads and writes job-scheduling instances through FileChannel and a reusable direct buffer,
+// without building a String per line or per number.
+//
+// Binary (little-endian): int magic "JSIN", int version, int jobs, int machines, double capacity,
+//                         double[jobs] processing times
+// CSV: optional header line, then one line per job; the last field of each line is the time
+//      ("job,processing_time" is what writeCsv produces). Machines and capacity are not stored.
+public final class InstanceIO {
+
+    private static final int MAGIC = 0x4A53494E;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 24;
+    private static final int CHUNK = 1 << 20;
+
+    private InstanceIO() {
+    }
+
+    public static void writeBinary(SchedulingInstance instance, Path path) {
+        double[] times = instance.getProcessingTimes();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(times.length)
+                    .putInt(instance.getNumberOfMachines()).putDouble(instance.getCapacity());
+
+            int written = 0;
+            do {
+                int count = Math.min(times.length - written, buffer.remaining() / Double.BYTES);
+                buffer.asDoubleBuffer().put(times, written, count);
+                buffer.position(buffer.position() + count * Double.BYTES);
+                written += count;
+                buffer.flip();
+                writeFully(channel, buffer);
+                buffer.clear();
+            } while (written < times.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write instance " + path, e);
+        }
+    }
+
+    public static SchedulingInstance readBinary(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.limit(HEADER_BYTES);
+            readFully(channel, buffer);
+            buffer.flip();
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a binary scheduling instance: " + path);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported instance version " + version);
+            }
+            int jobs = buffer.getInt();
+            int machines = buffer.getInt();
+            double capacity = buffer.getDouble();
+            if (jobs < 0 || channel.size() != HEADER_BYTES + (long) jobs * Double.BYTES) {
+                throw new IllegalArgumentException("Truncated or corrupt instance: " + path);
+            }
+
+            // Chunks go straight from the channel into the direct buffer and then into the array
+            double[] times = new double[jobs];
+            int read = 0;
+            while (read < jobs) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), (long) (jobs - read) * Double.BYTES));
+                readFully(channel, buffer);
+                buffer.flip();
+                int count = buffer.remaining() / Double.BYTES;
+                buffer.asDoubleBuffer().get(times, read, count);
+                read += count;
+            }
+            return new SchedulingInstance(times, machines, capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read instance " + path, e);
+        }
+    }
+
+    public static void writeCsv(SchedulingInstance instance, Path path) {
+        double[] times = instance.getProcessingTimes();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK);
+            buffer.put("job,processing_time\n".getBytes(StandardCharsets.US_ASCII));
+            for (int i = 0; i < times.length; i++) {
+                if (buffer.remaining() < 64) {
+                    buffer.flip();
+                    writeFully(channel, buffer);
+                    buffer.clear();
+                }
+                putLong(buffer, i);
+                buffer.put((byte) ',');
+                putTime(buffer, times[i]);
+                buffer.put((byte) '\n');
+            }
+            buffer.flip();
+            writeFully(channel, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write instance " + path, e);
+        }
+    }
+
+    public static double[] readCsv(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK);
+            // "1,1.00\n" is the shortest realistic line, so size/8 rarely needs to grow
+            double[] values = new double[(int) Math.max(16, Math.min(Integer.MAX_VALUE - 8, channel.size() / 8))];
+            int count = 0;
+            long line = 1;
+            CsvNumber field = new CsvNumber();
+
+            boolean eof = false;
+            while (!eof) {
+                buffer.clear();
+                eof = channel.read(buffer) == -1;
+                buffer.flip();
+                // a final line without '\n' is committed by the synthetic newline at EOF
+                int end = eof ? buffer.limit() + 1 : buffer.limit();
+                for (int p = buffer.position(); p < end; p++) {
+                    byte b = p < buffer.limit() ? buffer.get(p) : (byte) '\n';
+                    if (b == '\n') {
+                        if (!field.isEmpty()) {
+                            if (field.isValid()) {
+                                if (count == values.length) values = Arrays.copyOf(values, count * 2);
+                                values[count++] = field.value();
+                            } else if (count > 0 || line > 1) {
+                                throw new IllegalArgumentException("Invalid processing time on line " + line + " of " + path);
+                            }
+                        }
+                        field.reset();
+                        line++;
+                    } else if (b == ',') {
+                        field.reset();
+                    } else if (b != '\r') {
+                        field.accept(b);
+                    }
+                }
+            }
+            return count == values.length ? values : Arrays.copyOf(values, count);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read instance " + path, e);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) == -1) {
+                throw new EOFException("Unexpected end of file");
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void putLong(ByteBuffer buffer, long value) {
+        if (value < 0) {
+            buffer.put((byte) '-');
+            value = -value;
+        }
+        long divisor = 1;
+        while (divisor <= value / 10) divisor *= 10;
+        for (; divisor > 0; divisor /= 10) {
+            buffer.put((byte) ('0' + (value / divisor) % 10));
+        }
+    }
+
+    // Two decimals when that is exact (generated instances), otherwise Double.toString.
+    private static void putTime(ByteBuffer buffer, double time) {
+        long cents = Math.round(time * 100.0);
+        if (cents / 100.0 == time && Math.abs(cents) < 1L << 53) {
+            if (cents < 0) {
+                buffer.put((byte) '-');
+                cents = -cents;
+            }
+            putLong(buffer, cents / 100);
+            buffer.put((byte) '.');
+            buffer.put((byte) ('0' + (cents / 10) % 10));
+            buffer.put((byte) ('0' + cents % 10));
+        } else {
+            buffer.put(Double.toString(time).getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    // Incremental decimal parser fed one byte at a time. Mantissas of at most 15 digits (< 2^53)
+    // with a decimal exponent within +-22 are converted with one exact division or multiplication by a power of ten,
+    // which is correctly rounded (same result as Double.parseDouble); anything else falls back
+    // to Double.parseDouble on the collected bytes.
+    private static final class CsvNumber {
+        private static final double[] POWERS_OF_TEN = new double[23];
+        static {
+            POWERS_OF_TEN[0] = 1.0;
+            for (int i = 1; i < POWERS_OF_TEN.length; i++) POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10.0;
+        }
+
+        private final byte[] text = new byte[64];
+        private int length;
+        private long mantissa;
+        private int digits;
+        private int fractionDigits;
+        private int exponent;
+        private boolean negative, negativeExponent, seenDot, seenExponent, exponentDigits, valid;
+
+        CsvNumber() {
+            reset();
+        }
+
+        void reset() {
+            length = 0;
+            mantissa = 0;
+            digits = 0;
+            fractionDigits = 0;
+            exponent = 0;
+            negative = negativeExponent = seenDot = seenExponent = exponentDigits = false;
+            valid = true;
+        }
+
+        boolean isEmpty() {
+            return length == 0;
+        }
+
+        boolean isValid() {
+            return valid && digits > 0 && (!seenExponent || exponentDigits);
+        }
+
+        void accept(byte b) {
+            if (b == ' ' || b == '\t' || b == '"') return;
+            if (length < text.length) text[length] = b;
+            length++;
+
+            if (b >= '0' && b <= '9') {
+                if (seenExponent) {
+                    exponent = Math.min(exponent * 10 + (b - '0'), 10_000);
+                    exponentDigits = true;
+                } else {
+                    if (digits < 18) mantissa = mantissa * 10 + (b - '0');
+                    else if (!seenDot) exponent++;          // integer digit past 18: scale instead
+                    digits++;
+                    if (seenDot && digits <= 18) fractionDigits++;
+                }
+            } else if (b == '.' && !seenDot && !seenExponent) {
+                seenDot = true;
+            } else if ((b == 'e' || b == 'E') && digits > 0 && !seenExponent) {
+                seenExponent = true;
+            } else if ((b == '-' || b == '+') && length == 1) {
+                negative = b == '-';
+            } else if ((b == '-' || b == '+') && seenExponent && !exponentDigits && !negativeExponent) {
+                negativeExponent = b == '-';
+            } else {
+                valid = false;
+            }
+        }
+
+        double value() {
+            int power = (negativeExponent ? -exponent : exponent) - fractionDigits;
+            double result;
+            if (digits <= 15 && power >= -22 && power <= 22 && length <= text.length) {
+                result = power < 0 ? mantissa / POWERS_OF_TEN[-power] : mantissa * POWERS_OF_TEN[power];
+            } else if (length <= text.length) {
+                return Double.parseDouble(new String(text, 0, length, StandardCharsets.US_ASCII));
+            } else {
+                throw new IllegalArgumentException("Number too long");
+            }
+            return negative ? -result : result;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import GeneticAlgorithmLibrary.Crossover.*;
 import GeneticAlgorithmLibrary.Mutation.*;
 import GeneticAlgorithmLibrary.Replacement.*;
 
+import java.nio.file.Path;
 import java.util.Scanner;
 
 import static CaseStudies.ScheduleTranslator.printSchedule;
@@ -21,6 +22,7 @@ public class JobSchedulingDemo {
         System.out.println("Do you want to enter your own values or use defaults?");
         System.out.println("1. Enter my own values");
         System.out.println("2. Use default configuration");
+        System.out.println("3. Load a problem instance (.bin or .csv) with default GA settings");
         System.out.print("Choice: ");
         int choice = scanner.nextInt();
 
@@ -60,6 +62,32 @@ public class JobSchedulingDemo {
         replacementMethod = new ElitistReplacement(2);
         prototype = new IntegerChromosome(chromosomeLength, 0, numberOfMachines - 1, 42);
 
+        // Instance from a file written by InstanceGenerator (CSV files only hold processing times)
+        if (choice == 3) {
+            System.out.print("Enter instance path: ");
+            Path path = Path.of(scanner.next());
+            SchedulingInstance instance;
+            if (path.toString().endsWith(".csv")) {
+                double[] times = InstanceIO.readCsv(path);
+                System.out.print("Enter number of machines: ");
+                int machines = scanner.nextInt();
+                System.out.print("Enter capacity slack (e.g. 1.1): ");
+                double slack = scanner.nextDouble();
+                double total = 0.0;
+                for (double t : times) total += t;
+                instance = new SchedulingInstance(times, machines, slack * total / machines);
+            } else {
+                instance = InstanceIO.readBinary(path);
+            }
+            processingTimes = instance.getProcessingTimes();
+            numberOfMachines = instance.getNumberOfMachines();
+            capacity = instance.getCapacity();
+            chromosomeLength = instance.getJobs();
+            prototype = new IntegerChromosome(chromosomeLength, 0, numberOfMachines - 1, 42);
+            System.out.printf("Loaded %d jobs on %d machines (capacity %.2f)%n",
+                    chromosomeLength, numberOfMachines, capacity);
+        }
+
         // Optional manual input
         if (choice == 1) {
             System.out.print("Enter population size: ");
@@ -82,6 +110,10 @@ public class JobSchedulingDemo {
             System.out.println("1. Random Selection");
             System.out.println("2. Tournament Selection");
             System.out.println("3. Roulette Wheel Selection");
+            System.out.println("4. Alias Table Selection");
+            System.out.println("5. Stochastic Universal Sampling");
+            System.out.println("6. Rank Selection");
+            System.out.println("7. Truncation Selection");
             System.out.print("Choice: ");
             int selectionChoice = scanner.nextInt();
 
@@ -93,6 +125,18 @@ public class JobSchedulingDemo {
                     selectionMethod = new TournamentSelection(tSize);
                 }
                 case 3 -> selectionMethod = new RouletteWheelSelection();
+                case 4 -> selectionMethod = new AliasTableSelection();
+                case 5 -> selectionMethod = new StochasticUniversalSampling();
+                case 6 -> {
+                    System.out.print("Enter selection pressure (1.0 - 2.0): ");
+                    double pressure = scanner.nextDouble();
+                    selectionMethod = new RankSelection(pressure);
+                }
+                case 7 -> {
+                    System.out.print("Enter truncation fraction (0.0 - 1.0): ");
+                    double fraction = scanner.nextDouble();
+                    selectionMethod = new TruncationSelection(fraction);
+                }
                 default -> throw new IllegalArgumentException("Invalid selection method choice");
             }
 
@@ -163,8 +207,10 @@ public class JobSchedulingDemo {
                 case 3 -> prototype = new FloatChromosome(chromosomeLength, 0.0, 1.0, 42);
                 default -> throw new IllegalArgumentException("Invalid chromosome type choice");
             }
-        } else {
+        } else if (choice == 2) {
             System.out.println("\nUsing default configuration...\n");
+        } else if (choice != 3) {
+            System.out.println("\nInvalid option " + choice + ", using default configuration...\n");
         }
 
         //Fitness function
@@ -185,6 +231,8 @@ public class JobSchedulingDemo {
         ga.setCrossoverMethod(crossoverMethod);
         ga.setMutationMethod(mutationMethod);
         ga.setReplacementMethod(replacementMethod);
+        ga.setOffspringCount(numParents);
+        ga.addGenerationListener(new ConsoleGenerationListener());
 
 
         System.out.println("\n Running Genetic Algorithm...\n");
@@ -196,7 +244,8 @@ public class JobSchedulingDemo {
         System.out.println("Best fitness: " + String.format("%.4f", best.getFitness()));
 
 
-        if (best instanceof IntegerChromosome ic) {
+        // A per-machine job listing is only readable for small instances
+        if (best instanceof IntegerChromosome ic && chromosomeLength <= 100) {
             printSchedule(ic, processingTimes, numberOfMachines);
         }
 
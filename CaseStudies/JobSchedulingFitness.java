@@ -1,29 +1,43 @@
 package CaseStudies;
 
 import GeneticAlgorithmLibrary.FitnessFunction;
+import GeneticAlgorithmLibrary.PackedFitnessFunction;
+import GeneticAlgorithmLibrary.PackedPopulation;
 import GeneticAlgorithmLibrary.Chromosome.*;
 
+import java.util.Arrays;
+import java.util.List;
 
-public class JobSchedulingFitness implements FitnessFunction {
+
+public class JobSchedulingFitness implements FitnessFunction, PackedFitnessFunction {
 
     private final double[] processingTimes;
     private final int numberOfMachines;
     private final double capacity;
+    private boolean incremental = false;
+    private final ThreadLocal<double[]> scratchLoads;
 
     public JobSchedulingFitness(double[] processingTimes, int numberOfMachines, double capacity) {
         this.processingTimes = processingTimes;
         this.numberOfMachines = numberOfMachines;
         this.capacity = capacity;
+        this.scratchLoads = ThreadLocal.withInitial(() -> new double[numberOfMachines]);
     }
 
     public double[] getProcessingTimes() { return processingTimes; }
     public int getNumberOfMachines() { return numberOfMachines; }
     public double getCapacity() { return capacity; }
 
+    // Keep machine loads on each IntegerChromosome and update them from its change log
+    public void setIncremental(boolean incremental) { this.incremental = incremental; }
+    public boolean isIncremental() { return incremental; }
+
     @Override
     public double evaluate(Chromosome chromosome) {
         if (chromosome instanceof BinaryChromosome)
             return evaluateBinary((BinaryChromosome) chromosome);
+        if (chromosome instanceof PackedBinaryChromosome)
+            return evaluatePackedBinary((PackedBinaryChromosome) chromosome);
         if (chromosome instanceof IntegerChromosome)
             return evaluateInteger((IntegerChromosome) chromosome);
         if (chromosome instanceof FloatChromosome)
@@ -32,6 +46,38 @@ public class JobSchedulingFitness implements FitnessFunction {
         throw new IllegalArgumentException("Unsupported chromosome type for JobSchedulingFitness");
     }
 
+    // Homogeneous integer batches skip the per-individual type dispatch and share one
+    // per-thread load buffer; anything else goes through evaluate().
+    @Override
+    public void evaluateBatch(List<Chromosome> batch, double[] out) {
+        if (batch.isEmpty()) return;
+        Class<?> type = batch.get(0).getClass();
+        boolean integerBatch = type == IntegerChromosome.class && !incremental;
+        for (int k = 1; k < batch.size() && integerBatch; k++) {
+            integerBatch = batch.get(k).getClass() == type;
+        }
+        if (!integerBatch) {
+            for (int k = 0; k < batch.size(); k++) {
+                out[k] = evaluate(batch.get(k));
+            }
+            return;
+        }
+
+        double[] machineLoads = scratchLoads.get();
+        for (int k = 0; k < batch.size(); k++) {
+            int[] assignments = (int[]) batch.get(k).getGenes();
+            Arrays.fill(machineLoads, 0.0);
+            accumulate(assignments, 0, Math.min(assignments.length, processingTimes.length), machineLoads);
+            out[k] = score(machineLoads);
+        }
+    }
+
+    // Stateless apart from the immutable problem data and per-thread scratch buffers.
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     private double evaluateBinary(BinaryChromosome chromosome) {
         boolean[] genes = (boolean[]) chromosome.getGenes();
         double totalTime = 0.0;
@@ -47,73 +93,163 @@ public class JobSchedulingFitness implements FitnessFunction {
         return Math.min(totalTime / capacity, 1.0);
     }
 
+    // Same as evaluateBinary, but visits only the set bits of each word.
+    private double evaluatePackedBinary(PackedBinaryChromosome chromosome) {
+        long[] words = (long[]) chromosome.getGenes();
+        int jobs = Math.min(chromosome.getLength(), processingTimes.length);
+        double totalTime = 0.0;
+
+        for (int w = 0; w < words.length && (w << 6) < jobs; w++) {
+            long word = words[w];
+            if ((w << 6) + 64 > jobs) word &= PackedBinaryChromosome.tailMask(jobs);
+            int base = w << 6;
+            while (word != 0) {
+                totalTime += processingTimes[base + Long.numberOfTrailingZeros(word)];
+                word &= word - 1;
+            }
+        }
+
+        if (totalTime > capacity) {
+            return 1e-9;
+        }
+
+        return Math.min(totalTime / capacity, 1.0);
+    }
+
 
     private double evaluateInteger(IntegerChromosome chromosome) {
+        if (incremental) {
+            return evaluateIntegerIncremental(chromosome);
+        }
         int[] assignments = (int[]) chromosome.getGenes();
         double[] machineLoads = new double[numberOfMachines];
 
         // Calculate load per machine
-        for (int i = 0; i < assignments.length && i < processingTimes.length; i++) {
-            int machine = Math.abs(assignments[i]) % numberOfMachines;
-            machineLoads[machine] += processingTimes[i];
-        }
+        accumulate(assignments, 0, Math.min(assignments.length, processingTimes.length), machineLoads);
 
-        double penalty = 0.0;
-        for (double load : machineLoads) {
-            if (load > capacity) {
-                penalty += (load - capacity); // overload penalty
+        return score(machineLoads);
+    }
+
+    // O(changed genes) load update + O(machines) scoring when the change log is usable,
+    // otherwise a full pass that (re)builds the cached loads.
+    private double evaluateIntegerIncremental(IntegerChromosome chromosome) {
+        double[] machineLoads = chromosome.getEvaluationCache();
+        GeneChangeLog log = chromosome.getChangeLog();
+
+        if (machineLoads == null || machineLoads.length != numberOfMachines || log == null || log.isOverflowed()) {
+            int[] assignments = (int[]) chromosome.getGenes();
+            machineLoads = new double[numberOfMachines];
+            accumulate(assignments, 0, Math.min(assignments.length, processingTimes.length), machineLoads);
+            chromosome.setEvaluationCache(machineLoads);
+            chromosome.enableChangeTracking(Math.max(16, processingTimes.length / 8));
+        } else {
+            for (int k = 0; k < log.size(); k++) {
+                int job = log.indexAt(k);
+                if (job >= processingTimes.length) continue;
+                machineLoads[Math.abs(log.oldValueAt(k)) % numberOfMachines] -= processingTimes[job];
+                machineLoads[Math.abs(log.newValueAt(k)) % numberOfMachines] += processingTimes[job];
             }
         }
+        chromosome.getChangeLog().clear();
 
-        double makespan = max(machineLoads);
-        double avgUtilization = averageUtilization(machineLoads);
+        return score(machineLoads);
+    }
 
-        return avgUtilization / (1.0 + makespan + 17 * penalty);
+    // Load per machine of an integer assignment, written into loads (length numberOfMachines).
+    public double[] machineLoads(IntegerChromosome chromosome, double[] loads) {
+        if (loads.length != numberOfMachines) {
+            throw new IllegalArgumentException("Expected one load per machine");
+        }
+        Arrays.fill(loads, 0.0);
+        accumulate((int[]) chromosome.getGenes(), 0, Math.min(chromosome.getLength(), processingTimes.length), loads);
+        return loads;
+    }
+
+    public double makespan(IntegerChromosome chromosome) {
+        double makespan = 0.0;
+        for (double load : machineLoads(chromosome, new double[numberOfMachines])) {
+            makespan = Math.max(makespan, load);
+        }
+        return makespan;
+    }
+
+    // Gene value -> machine, as used by every integer evaluation path
+    public int machineOf(int gene) {
+        return Math.abs(gene) % numberOfMachines;
     }
 
     private double evaluateFloat(FloatChromosome chromosome) {
         double[] genes = (double[]) chromosome.getGenes();
         double[] machineLoads = new double[numberOfMachines];
 
-        // Continuous assignment to nearest machine
-        for (int i = 0; i < genes.length && i < processingTimes.length; i++) {
-            int machine = (int) Math.floor(genes[i] * numberOfMachines);
-            if (machine >= numberOfMachines) machine = numberOfMachines - 1;
-            if (machine < 0) machine = 0;
+        // Continuous assignment to nearest machine; clamping with min/max instead of branches
+        // (truncation and floor agree once negative values are clamped to 0)
+        int jobs = Math.min(genes.length, processingTimes.length);
+        int top = numberOfMachines - 1;
+        for (int i = 0; i < jobs; i++) {
+            int machine = Math.max(0, Math.min(top, (int) (genes[i] * numberOfMachines)));
             machineLoads[machine] += processingTimes[i];
         }
 
-        double penalty = 0.0;
-        for (double load : machineLoads) {
-            if (load > capacity) {
-                penalty += (load - capacity); // overload penalty
-            }
-        }
+        return score(machineLoads);
+    }
 
-        double makespan = max(machineLoads);
-        double avgUtilization = averageUtilization(machineLoads);
+    // Packed (structure-of-arrays) integer genomes: same scoring as evaluateInteger
+    @Override
+    public double evaluate(int[] genes, int offset, int length) {
+        return evaluatePacked(genes, offset, length, new double[numberOfMachines]);
+    }
 
-        return avgUtilization / (1.0 + makespan + 17 * penalty);
+    @Override
+    public void evaluateAll(PackedPopulation population) {
+        int[] genes = population.getGenes();
+        int length = population.getLength();
+        double[] machineLoads = new double[numberOfMachines];
+        for (int row = 0; row < population.getSize(); row++) {
+            Arrays.fill(machineLoads, 0.0);
+            population.setFitness(row, evaluatePacked(genes, population.offset(row), length, machineLoads));
+        }
+    }
+
+    private double evaluatePacked(int[] genes, int offset, int length, double[] machineLoads) {
+        accumulate(genes, offset, Math.min(length, processingTimes.length), machineLoads);
+        return score(machineLoads);
     }
 
+    // Adds processingTimes[0 .. jobs) to the machines named by genes[offset ..].
+    // Genes are almost always plain machine indices; a single OR-reduction over the genome
+    // (a loop C2 vectorizes) proves that, and the scatter-add then skips abs/modulo.
+    // Anything else falls back to the abs % machines mapping.
+    private void accumulate(int[] genes, int offset, int jobs, double[] machineLoads) {
+        int top = numberOfMachines - 1;
+        int outOfRange = 0;
+        for (int i = offset; i < offset + jobs; i++) {
+            outOfRange |= genes[i] | (top - genes[i]);
+        }
 
-    private double max(double[] arr) {
-        double maxVal = arr[0];
-        for (double v : arr) if (v > maxVal) maxVal = v;
-        return maxVal;
+        if (outOfRange >= 0) {
+            for (int i = 0; i < jobs; i++) {
+                machineLoads[genes[offset + i]] += processingTimes[i];
+            }
+        } else {
+            for (int i = 0; i < jobs; i++) {
+                machineLoads[Math.abs(genes[offset + i]) % numberOfMachines] += processingTimes[i];
+            }
+        }
     }
 
-    private double overCapacityPenalty(double[] loads) {
+    // Makespan, over-capacity penalty and average utilization in one branch-free pass.
+    private double score(double[] machineLoads) {
+        double makespan = machineLoads[0];
         double penalty = 0.0;
-        for (double load : loads)
-            if (load > capacity) penalty += (load - capacity);
-        return penalty;
-    }
+        double utilization = 0.0;
+        for (double load : machineLoads) {
+            makespan = Math.max(makespan, load);
+            penalty += Math.max(0.0, load - capacity);
+            utilization += Math.min(load, capacity) / capacity;
+        }
+        double avgUtilization = utilization / numberOfMachines;
 
-    private double averageUtilization(double[] loads) {
-        double total = 0.0;
-        for (double load : loads)
-            total += Math.min(load, capacity) / capacity;
-        return total / numberOfMachines;
+        return avgUtilization / (1.0 + makespan + 17 * penalty);
     }
 }
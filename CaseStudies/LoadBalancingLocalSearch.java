@@ -0,0 +1,188 @@
+package CaseStudies;
+
+import GeneticAlgorithmLibrary.LocalSearch;
+import GeneticAlgorithmLibrary.Chromosome.*;
+
+import java.util.Arrays;
+
+
+// Memetic operator for JobSchedulingFitness on IntegerChromosome (gene = machine).
+// Repeatedly takes the most- and least-loaded machine and applies the better of
+//   - moving one job from the most- to the least-loaded machine, or
+//   - swapping a job on the most-loaded machine with a shorter one on the least-loaded machine,
+// choosing the move that brings the two loads closest to equal. Stops when no move lowers the
+// larger of the two loads or after maxMoves moves (the per-individual budget).
+// Genes are changed through setGene, so incremental evaluation still sees every change.
+public class LoadBalancingLocalSearch implements LocalSearch {
+
+    private static final double EPSILON = 1e-9;
+
+    private final JobSchedulingFitness fitness;
+    private final int maxMoves;
+    private final ThreadLocal<Workspace> workspaces;
+
+    public LoadBalancingLocalSearch(JobSchedulingFitness fitness, int maxMoves) {
+        if (maxMoves < 1) {
+            throw new IllegalArgumentException("The move budget must be at least 1");
+        }
+        this.fitness = fitness;
+        this.maxMoves = maxMoves;
+        this.workspaces = ThreadLocal.withInitial(() ->
+                new Workspace(fitness.getProcessingTimes().length, fitness.getNumberOfMachines()));
+    }
+
+    // Each thread works in its own scratch buffers.
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public int improve(Chromosome chromosome) {
+        if (!(chromosome instanceof IntegerChromosome))
+            throw new IllegalArgumentException("Unsupported chromosome type for LoadBalancingLocalSearch");
+
+        IntegerChromosome assignment = (IntegerChromosome) chromosome;
+        double[] times = fitness.getProcessingTimes();
+        int machines = fitness.getNumberOfMachines();
+        int jobs = Math.min(assignment.getLength(), times.length);
+        if (machines < 2 || jobs == 0) return 0;
+
+        Workspace w = workspaces.get();
+        w.load(assignment, fitness, jobs);
+
+        int moves = 0;
+        while (moves < maxMoves) {
+            int most = 0, least = 0;
+            for (int m = 1; m < machines; m++) {
+                if (w.loads[m] > w.loads[most]) most = m;
+                if (w.loads[m] < w.loads[least]) least = m;
+            }
+            double gap = w.loads[most] - w.loads[least];
+            if (gap <= EPSILON) break;
+            double ideal = gap / 2.0;
+
+            // Best single move: the job on `most` whose time is closest to half the gap
+            int moveJob = -1;
+            double moveDelta = 0.0;
+            for (int job = w.head[most]; job >= 0; job = w.next[job]) {
+                double d = times[job];
+                if (d > EPSILON && d < gap - EPSILON
+                        && (moveJob < 0 || Math.abs(d - ideal) < Math.abs(moveDelta - ideal))) {
+                    moveJob = job;
+                    moveDelta = d;
+                }
+            }
+
+            // Best swap: for each job on `most`, binary-search the sorted times on `least`
+            // for the partner that makes the difference closest to half the gap
+            int count = 0;
+            for (int job = w.head[least]; job >= 0; job = w.next[job]) {
+                w.sorted[count++] = times[job];
+            }
+            Arrays.sort(w.sorted, 0, count);
+            int swapJob = -1;
+            double swapPartnerTime = 0.0, swapDelta = 0.0;
+            if (count > 0) {
+                for (int job = w.head[most]; job >= 0; job = w.next[job]) {
+                    int at = Arrays.binarySearch(w.sorted, 0, count, times[job] - ideal);
+                    if (at < 0) at = -at - 1;
+                    for (int k = Math.max(0, at - 1); k <= Math.min(count - 1, at); k++) {
+                        double d = times[job] - w.sorted[k];
+                        if (d > EPSILON && d < gap - EPSILON
+                                && (swapJob < 0 || Math.abs(d - ideal) < Math.abs(swapDelta - ideal))) {
+                            swapJob = job;
+                            swapPartnerTime = w.sorted[k];
+                            swapDelta = d;
+                        }
+                    }
+                }
+            }
+
+            boolean useSwap = swapJob >= 0 && (moveJob < 0 || Math.abs(swapDelta - ideal) < Math.abs(moveDelta - ideal));
+            if (useSwap) {
+                int partner = -1;
+                for (int job = w.head[least]; job >= 0 && partner < 0; job = w.next[job]) {
+                    if (times[job] == swapPartnerTime) partner = job;
+                }
+                if (!w.assign(assignment, swapJob, least, times) || !w.assign(assignment, partner, most, times)) break;
+            } else if (moveJob >= 0) {
+                if (!w.assign(assignment, moveJob, least, times)) break;
+            } else {
+                break;
+            }
+            moves++;
+        }
+        return moves;
+    }
+
+    // Jobs per machine as intrusive doubly linked lists, so a move is O(1).
+    private static final class Workspace {
+        final double[] loads;
+        final int[] head;
+        final int[] next;
+        final int[] prev;
+        final int[] machineOf;
+        final double[] sorted;
+        int minGene, maxGene;
+
+        Workspace(int jobs, int machines) {
+            loads = new double[machines];
+            head = new int[machines];
+            next = new int[jobs];
+            prev = new int[jobs];
+            machineOf = new int[jobs];
+            sorted = new double[jobs];
+        }
+
+        void load(IntegerChromosome assignment, JobSchedulingFitness fitness, int jobs) {
+            double[] times = fitness.getProcessingTimes();
+            Arrays.fill(loads, 0.0);
+            Arrays.fill(head, -1);
+            minGene = assignment.getMinValue();
+            maxGene = assignment.getMaxValue();
+            for (int job = 0; job < jobs; job++) {
+                int m = fitness.machineOf(assignment.getGene(job));
+                machineOf[job] = m;
+                loads[m] += times[job];
+                link(job, m);
+            }
+        }
+
+        // Moves job to machine; false if no gene value in the chromosome's range maps to it.
+        boolean assign(IntegerChromosome assignment, int job, int machine, double[] times) {
+            int gene = geneFor(machine);
+            if (gene == Integer.MIN_VALUE) return false;
+            int from = machineOf[job];
+            unlink(job, from);
+            loads[from] -= times[job];
+            link(job, machine);
+            loads[machine] += times[job];
+            machineOf[job] = machine;
+            assignment.setGene(job, gene);
+            return true;
+        }
+
+        private int geneFor(int machine) {
+            if (machine >= minGene && machine <= maxGene) return machine;
+            int machines = loads.length;
+            for (long v = minGene; v <= maxGene; v++) {
+                if (Math.abs((int) v) % machines == machine) return (int) v;
+            }
+            return Integer.MIN_VALUE;
+        }
+
+        private void link(int job, int machine) {
+            prev[job] = -1;
+            next[job] = head[machine];
+            if (head[machine] >= 0) prev[head[machine]] = job;
+            head[machine] = job;
+        }
+
+        private void unlink(int job, int machine) {
+            if (prev[job] >= 0) next[prev[job]] = next[job];
+            else head[machine] = next[job];
+            if (next[job] >= 0) prev[next[job]] = prev[job];
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package CaseStudies;
+
+import GeneticAlgorithmLibrary.*;
+import GeneticAlgorithmLibrary.Chromosome.*;
+import GeneticAlgorithmLibrary.Selection.*;
+import GeneticAlgorithmLibrary.Crossover.*;
+import GeneticAlgorithmLibrary.Mutation.*;
+import GeneticAlgorithmLibrary.Replacement.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+
+// Time-to-target comparison: the same GA with and without LoadBalancingLocalSearch, run until
+// the best makespan is within --gap of the lower bound max(total / machines, longest job).
+//
+// Usage: java CaseStudies.MemeticSchedulingDemo [--jobs=20000] [--machines=32] [--gap=0.001]
+//            [--budget=30] [--moves=64]
+public class MemeticSchedulingDemo {
+
+    public static void main(String[] args) {
+        int jobs = 20_000;
+        int machines = 32;
+        double gap = 0.001;
+        double budgetSeconds = 30;
+        int moves = 64;
+        for (String arg : args) {
+            if (arg.startsWith("--jobs=")) jobs = Integer.parseInt(arg.substring(7));
+            else if (arg.startsWith("--machines=")) machines = Integer.parseInt(arg.substring(11));
+            else if (arg.startsWith("--gap=")) gap = Double.parseDouble(arg.substring(6));
+            else if (arg.startsWith("--budget=")) budgetSeconds = Double.parseDouble(arg.substring(9));
+            else if (arg.startsWith("--moves=")) moves = Integer.parseInt(arg.substring(8));
+            else throw new IllegalArgumentException("Unknown argument: " + arg);
+        }
+
+        SchedulingInstance instance = InstanceGenerator.generate(jobs, machines,
+                InstanceGenerator.Distribution.UNIFORM, 1, 1.1);
+        JobSchedulingFitness fitness = instance.toFitnessFunction();
+        double total = 0.0, longest = 0.0;
+        for (double t : instance.getProcessingTimes()) {
+            total += t;
+            longest = Math.max(longest, t);
+        }
+        double lowerBound = Math.max(total / machines, longest);
+        double target = lowerBound * (1.0 + gap);
+        long budgetNanos = (long) (budgetSeconds * 1e9);
+
+        System.out.printf("=== Memetic GA: %d jobs on %d machines, target makespan %.2f (lower bound %.2f + %.1f%%) ===%n%n",
+                jobs, machines, target, lowerBound, gap * 100);
+
+        Result plain = timeToTarget(fitness, null, target, budgetNanos);
+        Result memetic = timeToTarget(fitness, new LoadBalancingLocalSearch(fitness, moves), target, budgetNanos);
+
+        report("GA", plain);
+        report("GA + local search", memetic);
+        if (memetic.reached && plain.reached) {
+            System.out.printf("%nLocal search saves %.2f s (%.1fx faster to target)%n",
+                    (plain.nanos - memetic.nanos) / 1e9, (double) plain.nanos / memetic.nanos);
+        } else if (memetic.reached) {
+            System.out.printf("%nLocal search saves at least %.2f s (plain GA missed the target within %.0f s)%n",
+                    (budgetNanos - memetic.nanos) / 1e9, budgetSeconds);
+        } else {
+            System.out.println("\nNeither run reached the target within the budget.");
+        }
+    }
+
+    private record Result(boolean reached, long nanos, int generations, double makespan, long moves, long searchNanos) {
+    }
+
+    private static Result timeToTarget(JobSchedulingFitness fitness, LocalSearch localSearch,
+                                       double target, long budgetNanos) {
+        int jobs = fitness.getProcessingTimes().length;
+        int machines = fitness.getNumberOfMachines();
+        GAEngine ga = new GAEngine(50, Integer.MAX_VALUE, 0.9, 1.0 / jobs,
+                new IntegerChromosome(jobs, 0, machines - 1, 42), fitness);
+        ga.setSelectionMethod(new TournamentSelection(3));
+        ga.setCrossoverMethod(new UniformCrossover());
+        ga.setMutationMethod(new IntegerNeighborMutation());
+        ga.setReplacementMethod(new ElitistReplacement(2));
+        ga.setOffspringCount(50);
+        ga.setEvaluationExecutor(ForkJoinPool.commonPool());
+        ga.setEvaluationChunkSize(4);
+        ga.setLocalSearch(localSearch);
+        ga.setSeed(7);
+
+        long started = System.nanoTime();
+        ga.initialize();
+        double makespan = fitness.makespan((IntegerChromosome) ga.getBest());
+        while (makespan > target && System.nanoTime() - started < budgetNanos) {
+            ga.step();
+            makespan = fitness.makespan((IntegerChromosome) ga.getBest());
+        }
+        return new Result(makespan <= target, System.nanoTime() - started, ga.getGeneration(), makespan,
+                ga.getLocalSearchMoves(), ga.getLocalSearchNanos());
+    }
+
+    private static void report(String name, Result r) {
+        System.out.printf("%-18s %s in %.2f s, %d generations, best makespan %.2f",
+                name, r.reached ? "reached target" : "missed target", r.nanos / 1e9, r.generations, r.makespan);
+        if (r.moves > 0) {
+            System.out.printf(", %d local-search moves (%.2f s)", r.moves, r.searchNanos / 1e9);
+        }
+        System.out.println();
+    }
+}
@@ -0,0 +1,28 @@
+package CaseStudies;
+
+
+// A job-scheduling problem: processing time per job, number of machines and per-machine capacity.
+public class SchedulingInstance {
+
+    private final double[] processingTimes;
+    private final int numberOfMachines;
+    private final double capacity;
+
+    public SchedulingInstance(double[] processingTimes, int numberOfMachines, double capacity) {
+        if (numberOfMachines < 1) {
+            throw new IllegalArgumentException("At least one machine is required");
+        }
+        this.processingTimes = processingTimes;
+        this.numberOfMachines = numberOfMachines;
+        this.capacity = capacity;
+    }
+
+    public double[] getProcessingTimes() { return processingTimes; }
+    public int getNumberOfMachines() { return numberOfMachines; }
+    public double getCapacity() { return capacity; }
+    public int getJobs() { return processingTimes.length; }
+
+    public JobSchedulingFitness toFitnessFunction() {
+        return new JobSchedulingFitness(processingTimes, numberOfMachines, capacity);
+    }
+}
@@ -0,0 +1,83 @@
+package GeneticAlgorithmLibrary;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Hands stats to a background thread that formats and writes them in batches.
+// The engine thread only does a non-blocking offer(); if the queue is full the
+// entry is dropped and counted rather than stalling the GA loop.
+public class AsyncLoggingListener implements GenerationListener, AutoCloseable {
+
+    private final BlockingQueue<GenerationStats> queue;
+    private final PrintStream out;
+    private final int batchSize;
+    private final Thread writer;
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean closed = false;
+
+    public AsyncLoggingListener(PrintStream out) {
+        this(out, 4096, 256);
+    }
+
+    public AsyncLoggingListener(PrintStream out, int queueCapacity, int batchSize) {
+        if (queueCapacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Queue capacity and batch size must be positive");
+        }
+        this.out = out;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.writer = new Thread(this::drainLoop, "ga-async-logger");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void onGeneration(GenerationStats stats) {
+        if (!queue.offer(stats)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    // Flushes everything queued so far and stops the writer thread.
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainLoop() {
+        List<GenerationStats> batch = new ArrayList<>(batchSize);
+        StringBuilder sb = new StringBuilder();
+        try {
+            while (!closed || !queue.isEmpty()) {
+                GenerationStats first = queue.poll(50, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                for (GenerationStats stats : batch) {
+                    sb.append(stats).append(System.lineSeparator());
+                }
+                out.print(sb);
+                out.flush();
+                sb.setLength(0);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package GeneticAlgorithmLibrary;
+
+import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+import GeneticAlgorithmLibrary.Crossover.CrossoverMethod;
+import GeneticAlgorithmLibrary.Mutation.MutationMethod;
+import GeneticAlgorithmLibrary.Randomness.RandomContext;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
+import GeneticAlgorithmLibrary.Randomness.SplitMix64;
+import GeneticAlgorithmLibrary.Selection.SelectionMethod;
+
+import java.time.Duration;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Steady-state GA without generation barriers: every worker thread repeatedly selects
+// parents from the shared population, breeds, evaluates and inserts its children.
+//
+// The population is an AtomicReferenceArray split into stripes. A child competes with the
+// worst member of a randomly chosen stripe and replaces it by compare-and-set, so inserts
+// cost O(size / stripes) and never take a lock. Individuals in the array are never modified
+// after insertion; the selection method hands out copies, so crossover never touches them.
+// Selection runs on all workers at once, so only thread-safe selection methods are accepted.
+// Each worker draws from its own split of the engine's source, so workers never contend on
+// a generator (results still depend on thread interleaving).
+public class AsyncSteadyStateEngine {
+
+    private final int populationSize;
+    private final long maxEvaluations;
+    private final double crossoverRate;
+    private final double mutationRate;
+
+    private SelectionMethod selectionMethod;
+    private CrossoverMethod crossoverMethod;
+    private MutationMethod mutationMethod;
+
+    private final FitnessFunction fitnessFunction;
+    private final Chromosome prototype;
+    private RandomSource random = new SplitMix64();
+
+    private int workers = Runtime.getRuntime().availableProcessors();
+    private int stripes;
+    private double targetFitness = Double.POSITIVE_INFINITY;
+    private long budgetNanos = Long.MAX_VALUE;
+
+    private AtomicReferenceArray<Chromosome> slots;
+    private final AtomicLong evaluations = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicReference<Chromosome> best = new AtomicReference<>();
+    private volatile boolean stopRequested;
+    private volatile long elapsedNanos;
+
+    public AsyncSteadyStateEngine(int populationSize, long maxEvaluations, double crossoverRate,
+                                  double mutationRate, Chromosome prototype,
+                                  FitnessFunction fitnessFunction) {
+        if (populationSize < 2) {
+            throw new IllegalArgumentException("Population size must be at least 2");
+        }
+        this.populationSize = populationSize;
+        this.maxEvaluations = maxEvaluations;
+        this.crossoverRate = crossoverRate;
+        this.mutationRate = mutationRate;
+        this.prototype = prototype;
+        this.fitnessFunction = fitnessFunction;
+        this.stripes = Math.max(1, populationSize / 64);
+    }
+
+    // --- Configuration setters ---
+    public void setSelectionMethod(SelectionMethod selectionMethod) {
+        if (selectionMethod != null && !selectionMethod.isThreadSafe()) {
+            throw new IllegalArgumentException(selectionMethod.getClass().getSimpleName()
+                    + " is not thread-safe and cannot be shared by the async workers");
+        }
+        this.selectionMethod = selectionMethod;
+    }
+
+    public void setCrossoverMethod(CrossoverMethod crossoverMethod) {
+        this.crossoverMethod = crossoverMethod;
+    }
+
+    public void setMutationMethod(MutationMethod mutationMethod) {
+        this.mutationMethod = mutationMethod;
+    }
+
+    // Ignored (one worker is used) when the fitness function is not thread-safe.
+    public void setWorkers(int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("At least one worker is required");
+        }
+        this.workers = workers;
+    }
+
+    // More stripes = cheaper inserts but a weaker "replace the worst" approximation.
+    public void setStripes(int stripes) {
+        if (stripes < 1 || stripes > populationSize) {
+            throw new IllegalArgumentException("Stripes must be between 1 and the population size");
+        }
+        this.stripes = stripes;
+    }
+
+    public void setSeed(long seed) {
+        this.random = new SplitMix64(seed);
+    }
+
+    public void setTargetFitness(double targetFitness) {
+        this.targetFitness = targetFitness;
+    }
+
+    public void setTimeBudget(Duration budget) {
+        this.budgetNanos = budget.toNanos();
+    }
+
+    // --- Thread-safe views ---
+    public Chromosome bestSoFar() {
+        Chromosome b = best.get();
+        return b == null ? null : b.clone();
+    }
+
+    // Fitness function calls, initial population included
+    public long getEvaluations() {
+        return Math.min(evaluations.get(), maxEvaluations);
+    }
+
+    public long getInsertions() {
+        return inserted.get();
+    }
+
+    public double getEvaluationsPerSecond() {
+        long nanos = elapsedNanos;
+        return nanos == 0 ? 0.0 : getEvaluations() * 1e9 / nanos;
+    }
+
+    public void requestStop() {
+        stopRequested = true;
+    }
+
+    // Snapshot of the current population (the individuals themselves are shared, not copied).
+    public Population getPopulation() {
+        Population snapshot = new Population(populationSize);
+        for (int i = 0; i < populationSize; i++) {
+            snapshot.add(slots.get(i));
+        }
+        return snapshot;
+    }
+
+    // --- Main run ---
+    public Chromosome run() {
+        if (selectionMethod == null || crossoverMethod == null || mutationMethod == null) {
+            throw new IllegalStateException("All GA components must be set before running.");
+        }
+
+        int threads = fitnessFunction.isThreadSafe() ? workers : 1;
+        slots = new AtomicReferenceArray<>(populationSize);
+        for (int i = 0; i < populationSize; i++) {
+            Chromosome individual = prototype.clone();
+            individual.setSeed(random.nextLong());
+            individual.initialize();
+            slots.set(i, individual);
+        }
+        evaluations.set(0);
+        inserted.set(0);
+        best.set(null);
+        stopRequested = false;
+
+        long started = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            // Initial evaluation, interleaved over the workers
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < threads; w++) {
+                int worker = w;
+                futures.add(pool.submit(() -> evaluateInitial(worker, threads)));
+            }
+            awaitAll(futures);
+
+            futures.clear();
+            Population view = sharedView();
+            for (int w = 0; w < threads; w++) {
+                RandomSource workerRandom = random.split();
+                futures.add(pool.submit(() -> breedLoop(view, started, workerRandom)));
+            }
+            awaitAll(futures);
+        } finally {
+            pool.shutdownNow();
+            elapsedNanos = System.nanoTime() - started;
+        }
+        return bestSoFar();
+    }
+
+    private void evaluateInitial(int worker, int threads) {
+        for (int i = worker; i < populationSize; i += threads) {
+            Chromosome c = slots.get(i);
+            c.setFitness(fitnessFunction.evaluate(c));
+            evaluations.incrementAndGet();
+            publish(c);
+        }
+    }
+
+    private void breedLoop(Population view, long started, RandomSource workerRandom) {
+        RandomContext.install(workerRandom);
+        while (!shouldStop(started)) {
+            List<Chromosome> parents = selectionMethod.select(view);
+            List<Chromosome> offspring = crossoverMethod.crossover(parents, crossoverRate);
+            mutationMethod.mutate(offspring, mutationRate);
+
+            for (Chromosome child : offspring) {
+                // children that still carry a parent's fitness cost no evaluation
+                if (!child.isFitnessValid()) {
+                    if (evaluations.getAndIncrement() >= maxEvaluations) {
+                        return;
+                    }
+                    child.setFitness(fitnessFunction.evaluate(child));
+                }
+                insert(child);
+            }
+        }
+    }
+
+    private boolean shouldStop(long started) {
+        if (stopRequested || evaluations.get() >= maxEvaluations) return true;
+        if (System.nanoTime() - started >= budgetNanos) return true;
+        Chromosome b = best.get();
+        return b != null && b.getFitness() >= targetFitness;
+    }
+
+    // Replace the worst member of a random stripe if the child beats it.
+    private void insert(Chromosome child) {
+        int stripe = RandomContext.current().nextInt(stripes);
+        int from = (int) ((long) stripe * populationSize / stripes);
+        int to = (int) ((long) (stripe + 1) * populationSize / stripes);
+
+        while (true) {
+            int worstIndex = from;
+            Chromosome worst = slots.get(from);
+            for (int i = from + 1; i < to; i++) {
+                Chromosome candidate = slots.get(i);
+                if (candidate.getFitness() < worst.getFitness()) {
+                    worst = candidate;
+                    worstIndex = i;
+                }
+            }
+            if (child.getFitness() <= worst.getFitness()) {
+                return;
+            }
+            if (slots.compareAndSet(worstIndex, worst, child)) {
+                inserted.incrementAndGet();
+                publish(child);
+                return;
+            }
+        }
+    }
+
+    private void publish(Chromosome candidate) {
+        while (true) {
+            Chromosome current = best.get();
+            if (current != null && current.getFitness() >= candidate.getFitness()) {
+                return;
+            }
+            if (best.compareAndSet(current, candidate)) {
+                return;
+            }
+        }
+    }
+
+    // Read-only Population whose individuals list reads straight from the shared slots.
+    private Population sharedView() {
+        Population view = new Population(populationSize);
+        view.setIndividuals(new AbstractList<>() {
+            @Override
+            public Chromosome get(int index) {
+                return slots.get(index);
+            }
+
+            @Override
+            public int size() {
+                return populationSize;
+            }
+        });
+        return view;
+    }
+
+    private static void awaitAll(List<Future<?>> futures) {
+        try {
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Run interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Worker failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package GeneticAlgorithmLibrary.Checkpoint;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ExecutionException;
+
+// Writes snapshots in the background. The engine thread only encodes the population into a
+// reusable heap buffer (a straight copy); a daemon thread then writes it through a
+// MappedByteBuffer to "<file>.tmp", forces it to disk and atomically renames it over <file>,
+// so a crash mid-write leaves the previous checkpoint intact.
+// At most one write is in flight; a checkpoint requested while the previous one is still
+// being written is skipped rather than stalling the GA loop.
+public class CheckpointWriter implements AutoCloseable {
+
+    private final Path file;
+    private final Path tempFile;
+    private final ExecutorService writer;
+    private ByteBuffer buffer = ByteBuffer.allocate(0);
+    private Future<?> pending;
+    private long written;
+    private long skipped;
+
+    public CheckpointWriter(Path file) {
+        this.file = file;
+        this.tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "ga-checkpoint-writer");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    // Encodes the snapshot and queues it for writing. Returns false if it was skipped because
+    // the previous checkpoint is still being written.
+    public boolean submit(Snapshot snapshot) {
+        if (pending != null && !pending.isDone()) {
+            skipped++;
+            return false;
+        }
+        flush();  // surfaces a failure of the previous write
+
+        long size = snapshot.encodedSize();
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Population too large for a single checkpoint file");
+        }
+        if (buffer.capacity() < size) {
+            buffer = ByteBuffer.allocate((int) size);
+        }
+        buffer.clear();
+        snapshot.write(buffer);
+        buffer.flip();
+
+        ByteBuffer data = buffer;
+        pending = writer.submit(() -> {
+            writeMapped(data);
+            return null;
+        });
+        written++;
+        return true;
+    }
+
+    // Blocks until the last submitted checkpoint is on disk.
+    public void flush() {
+        if (pending == null) return;
+        try {
+            pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            pending = null;
+            throw failure(e);
+        }
+    }
+
+    public long getWritten() {
+        return written;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    @Override
+    public void close() {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    private void writeMapped(ByteBuffer data) throws IOException {
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, data.remaining());
+            mapped.put(data.duplicate());
+            mapped.force();
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static RuntimeException failure(ExecutionException e) {
+        if (e.getCause() instanceof IOException io) {
+            return new UncheckedIOException("Failed to write checkpoint", io);
+        }
+        if (e.getCause() instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new IllegalStateException("Failed to write checkpoint", e.getCause());
+    }
+}
@@ -0,0 +1,275 @@
+package GeneticAlgorithmLibrary.Checkpoint;
+
+import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+// State of a GAEngine run at the end of a generation, and its binary file format.
+//
+// Layout (big-endian):
+//   int magic, int version, int generation, int lastImprovementGeneration, long totalEvaluations,
+//   int rngStateLength, long[] rngState, double crossoverRate, double mutationRate,
+//   int controllerStateLength, long[] controllerState, byte geneType, int populationSize, int chromosomeLength,
+//   record best, record[populationSize] individuals, long crc32 (of everything before it)
+// record = long seed, double fitness, byte fitnessValid, genes
+// genes  = int[] / double[] / long[] as-is, boolean[] packed 8 per byte
+//
+// Only gene values are stored; ranges and other shape information come from the prototype
+// chromosome passed to read(), which must match the one the run was started with.
+public class Snapshot {
+
+    static final int MAGIC = 0x4741434B;  // "GACK"
+    static final int VERSION = 3;
+
+    private static final byte BOOLEAN_GENES = 0;
+    private static final byte INT_GENES = 1;
+    private static final byte DOUBLE_GENES = 2;
+    private static final byte LONG_GENES = 3;
+
+    private final int generation;
+    private final int lastImprovementGeneration;
+    private final long totalEvaluations;
+    private final long[] rngState;
+    private final double crossoverRate;
+    private final double mutationRate;
+    private final long[] controllerState;
+    private final Chromosome best;
+    private final List<Chromosome> individuals;
+
+    public Snapshot(int generation, int lastImprovementGeneration, long totalEvaluations,
+                    long[] rngState, double crossoverRate, double mutationRate, long[] controllerState,
+                    Chromosome best, List<Chromosome> individuals) {
+        this.generation = generation;
+        this.lastImprovementGeneration = lastImprovementGeneration;
+        this.totalEvaluations = totalEvaluations;
+        this.rngState = rngState;
+        this.crossoverRate = crossoverRate;
+        this.mutationRate = mutationRate;
+        this.controllerState = controllerState;
+        this.best = best;
+        this.individuals = individuals;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    public int getLastImprovementGeneration() {
+        return lastImprovementGeneration;
+    }
+
+    public long getTotalEvaluations() {
+        return totalEvaluations;
+    }
+
+    public long[] getRngState() {
+        return rngState;
+    }
+
+    public double getCrossoverRate() {
+        return crossoverRate;
+    }
+
+    public double getMutationRate() {
+        return mutationRate;
+    }
+
+    // State of the engine's RateController; empty when it had none
+    public long[] getControllerState() {
+        return controllerState;
+    }
+
+    public Chromosome getBest() {
+        return best;
+    }
+
+    public List<Chromosome> getIndividuals() {
+        return individuals;
+    }
+
+    // Bytes needed by write() for this snapshot.
+    public long encodedSize() {
+        long record = 8 + 8 + 1 + geneBytes(best.getGenes());
+        return 4 + 4 + 4 + 4 + 8 + 4 + 8L * rngState.length + 8 + 8 + 4 + 8L * controllerState.length + 1 + 4 + 4
+                + record * (individuals.size() + 1) + 8;
+    }
+
+    // Encodes the snapshot into out starting at its current position. Reads the live
+    // chromosomes directly, so the caller must not modify them until this returns.
+    public void write(ByteBuffer out) {
+        int start = out.position();
+        out.putInt(MAGIC);
+        out.putInt(VERSION);
+        out.putInt(generation);
+        out.putInt(lastImprovementGeneration);
+        out.putLong(totalEvaluations);
+        out.putInt(rngState.length);
+        for (long word : rngState) {
+            out.putLong(word);
+        }
+        out.putDouble(crossoverRate);
+        out.putDouble(mutationRate);
+        out.putInt(controllerState.length);
+        for (long word : controllerState) {
+            out.putLong(word);
+        }
+        out.put(geneType(best.getGenes()));
+        out.putInt(individuals.size());
+        out.putInt(best.getLength());
+
+        writeRecord(out, best);
+        for (int i = 0; i < individuals.size(); i++) {
+            writeRecord(out, individuals.get(i));
+        }
+
+        CRC32 crc = new CRC32();
+        ByteBuffer covered = out.duplicate();
+        covered.position(start).limit(out.position());
+        crc.update(covered);
+        out.putLong(crc.getValue());
+    }
+
+    // Decodes a snapshot; every chromosome is a clone of prototype with the stored state applied.
+    public static Snapshot read(ByteBuffer in, Chromosome prototype) {
+        int start = in.position();
+        if (in.remaining() < 8 || in.getInt() != MAGIC) {
+            throw new IllegalStateException("Not a GA checkpoint");
+        }
+        int version = in.getInt();
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported checkpoint version " + version);
+        }
+
+        ByteBuffer covered = in.duplicate();
+        covered.position(start).limit(in.limit() - 8);
+        CRC32 crc = new CRC32();
+        crc.update(covered);
+        if (crc.getValue() != in.getLong(in.limit() - 8)) {
+            throw new IllegalStateException("Checkpoint is corrupt (checksum mismatch)");
+        }
+
+        int generation = in.getInt();
+        int lastImprovementGeneration = in.getInt();
+        long totalEvaluations = in.getLong();
+        long[] rngState = new long[in.getInt()];
+        for (int i = 0; i < rngState.length; i++) {
+            rngState[i] = in.getLong();
+        }
+        double crossoverRate = in.getDouble();
+        double mutationRate = in.getDouble();
+        long[] controllerState = new long[in.getInt()];
+        for (int i = 0; i < controllerState.length; i++) {
+            controllerState[i] = in.getLong();
+        }
+
+        byte geneType = in.get();
+        int size = in.getInt();
+        int length = in.getInt();
+        if (geneType != geneType(prototype.getGenes()) || length != prototype.getLength()) {
+            throw new IllegalArgumentException("Checkpoint does not match the prototype chromosome");
+        }
+
+        Chromosome best = readRecord(in, prototype);
+        List<Chromosome> individuals = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            individuals.add(readRecord(in, prototype));
+        }
+        return new Snapshot(generation, lastImprovementGeneration, totalEvaluations, rngState,
+                crossoverRate, mutationRate, controllerState, best, individuals);
+    }
+
+    // Reads a checkpoint file through a read-only mapping.
+    public static Snapshot load(Path file, Chromosome prototype) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(mapped, prototype);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read checkpoint " + file, e);
+        }
+    }
+
+    private static void writeRecord(ByteBuffer out, Chromosome c) {
+        out.putLong(c.getSeed());
+        out.putDouble(c.getFitness());
+        out.put((byte) (c.isFitnessValid() ? 1 : 0));
+
+        Object genes = c.getGenes();
+        if (genes instanceof int[] a) {
+            out.asIntBuffer().put(a);
+            out.position(out.position() + a.length * 4);
+        } else if (genes instanceof double[] a) {
+            out.asDoubleBuffer().put(a);
+            out.position(out.position() + a.length * 8);
+        } else if (genes instanceof long[] a) {
+            out.asLongBuffer().put(a);
+            out.position(out.position() + a.length * 8);
+        } else {
+            boolean[] a = (boolean[]) genes;
+            for (int i = 0; i < a.length; i += 8) {
+                int b = 0;
+                for (int j = 0; j < 8 && i + j < a.length; j++) {
+                    if (a[i + j]) b |= 1 << j;
+                }
+                out.put((byte) b);
+            }
+        }
+    }
+
+    private static Chromosome readRecord(ByteBuffer in, Chromosome prototype) {
+        Chromosome c = prototype.clone();
+        long seed = in.getLong();
+        double fitness = in.getDouble();
+        boolean valid = in.get() != 0;
+
+        Object genes = c.getGenes();
+        if (genes instanceof int[] a) {
+            in.asIntBuffer().get(a);
+            in.position(in.position() + a.length * 4);
+        } else if (genes instanceof double[] a) {
+            in.asDoubleBuffer().get(a);
+            in.position(in.position() + a.length * 8);
+        } else if (genes instanceof long[] a) {
+            in.asLongBuffer().get(a);
+            in.position(in.position() + a.length * 8);
+        } else {
+            boolean[] a = (boolean[]) genes;
+            for (int i = 0; i < a.length; i += 8) {
+                int b = in.get();
+                for (int j = 0; j < 8 && i + j < a.length; j++) {
+                    a[i + j] = (b & (1 << j)) != 0;
+                }
+            }
+        }
+
+        // genes were written through getGenes(), so drop any derived state before restoring fitness
+        c.markGenesChanged();
+        c.setSeed(seed);
+        c.setFitness(fitness);
+        if (!valid) c.markGenesChanged();
+        return c;
+    }
+
+    private static byte geneType(Object genes) {
+        if (genes instanceof boolean[]) return BOOLEAN_GENES;
+        if (genes instanceof int[]) return INT_GENES;
+        if (genes instanceof double[]) return DOUBLE_GENES;
+        if (genes instanceof long[]) return LONG_GENES;
+        throw new IllegalArgumentException("Unsupported gene type for checkpointing");
+    }
+
+    private static long geneBytes(Object genes) {
+        if (genes instanceof int[] a) return 4L * a.length;
+        if (genes instanceof double[] a) return 8L * a.length;
+        if (genes instanceof long[] a) return 8L * a.length;
+        return (((boolean[]) genes).length + 7) / 8;
+    }
+}
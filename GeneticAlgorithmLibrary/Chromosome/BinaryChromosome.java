@@ -2,9 +2,8 @@ package GeneticAlgorithmLibrary.Chromosome;
 
 public class BinaryChromosome extends Chromosome {
     private boolean[] genes;   //Uses a bool array to represent genes.
-    private int seed;          // internal seed for LCG-based randomness
 
-    public BinaryChromosome(int length, int seed) {
+    public BinaryChromosome(int length, long seed) {
         super(length);
         this.genes = new boolean[length];
         this.seed = seed;
@@ -29,8 +28,10 @@ public class BinaryChromosome extends Chromosome {
             if (arr.length != this.length) {
                 throw new IllegalArgumentException("Array length mismatch");
             }
-            this.genes = new boolean[length];
-            copyArray(arr, this.genes, length);
+            if (arr != this.genes) {
+                copyArray(arr, this.genes, length);
+            }
+            markGenesChanged();
         } else {
             throw new IllegalArgumentException("Expected boolean[]");
         }
@@ -43,6 +44,7 @@ public class BinaryChromosome extends Chromosome {
             int rnd = nextRandom(2);
             genes[i] = (rnd == 1);
         }
+        markGenesChanged();
     }
 
 
@@ -51,9 +53,16 @@ public class BinaryChromosome extends Chromosome {
         BinaryChromosome copy = new BinaryChromosome(this.length, this.seed);
         copyArray(this.genes, copy.genes, this.length);
         copy.fitness = this.fitness; // Copy fitness
+        copy.fitnessValid = this.fitnessValid;
         return copy;
     }
 
+    @Override
+    public void copyFrom(Chromosome source) {
+        copyStateFrom(source);
+        System.arraycopy(((BinaryChromosome) source).genes, 0, genes, 0, length);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("BinaryChromosome: ");
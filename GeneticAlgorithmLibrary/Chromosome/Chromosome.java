@@ -1,9 +1,13 @@
 package GeneticAlgorithmLibrary.Chromosome;
 
+import GeneticAlgorithmLibrary.Randomness.SplitMix64;
+
 public abstract class Chromosome implements Cloneable {
     protected int length;
     protected double fitness = 0.0;
-    protected int seed;
+    protected boolean fitnessValid = false;  // false until scored, reset whenever genes change
+    protected long seed;
+    protected long modifications;            // bumped on every gene change, so observers can skip unchanged individuals
 
     public Chromosome(int length) {
         this.length = length;
@@ -23,11 +27,41 @@ public abstract class Chromosome implements Cloneable {
 
     public void setFitness(double fitness) {
         this.fitness = fitness;
+        this.fitnessValid = true;
+    }
+
+    public boolean isFitnessValid() {
+        return fitnessValid;
+    }
+
+    // Call after modifying the array returned by getGenes() in place without going through setGenes().
+    public void markGenesChanged() {
+        this.fitnessValid = false;
+        this.modifications++;
+    }
+
+    // Number of gene changes since this object was created. Clones start again from 0.
+    public long getModificationCount() {
+        return modifications;
     }
 
     @Override
     public abstract Chromosome clone();  // Abstract clone method to enforce implementation
 
+    // Overwrite this chromosome with the contents of source (same type and length)
+    // without allocating; used by pooled generations instead of clone().
+    public abstract void copyFrom(Chromosome source);
+
+    protected void copyStateFrom(Chromosome source) {
+        if (source.getClass() != getClass() || source.length != length) {
+            throw new IllegalArgumentException("copyFrom requires a chromosome of the same type and length");
+        }
+        this.fitness = source.fitness;
+        this.fitnessValid = source.fitnessValid;
+        this.seed = source.seed;
+        this.modifications++;
+    }
+
 
     protected void copyArray(Object source, Object destination, int length) {
         if (source instanceof boolean[] && destination instanceof boolean[]) {
@@ -48,19 +82,26 @@ public abstract class Chromosome implements Cloneable {
             for (int i = 0; i < length; i++) {
                 dest[i] = src[i];
             }
+        } else if (source instanceof long[] && destination instanceof long[]) {
+            System.arraycopy(source, 0, destination, 0, length);
         } else {
             throw new IllegalArgumentException("unsupported array type for copying");
         }
     }
 
-    public void setSeed(int seed) {
+    public void setSeed(long seed) {
         this.seed = seed;
     }
 
-    // update nextRandom to use and persist internal seed
+    // Current generator state; advances every time nextRandom() is called
+    public long getSeed() {
+        return seed;
+    }
+
+    // SplitMix64 step stored in this.seed (replaces the old 31-bit LCG, whose low bits cycled
+    // with short periods), mapped onto [0, max) with a multiply-shift instead of a modulo.
     protected int nextRandom(int max) {
-        // LCG update stored in this.seed
-        this.seed = (1103515245 * this.seed + 12345) & 0x7fffffff;
-        return this.seed % max;
+        this.seed += SplitMix64.GOLDEN_GAMMA;
+        return (int) (((SplitMix64.mix64(this.seed) >>> 32) * max) >>> 32);
     }
 }
\ No newline at end of file
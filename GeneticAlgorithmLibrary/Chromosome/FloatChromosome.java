@@ -5,10 +5,9 @@ public class FloatChromosome extends Chromosome {
     private double[] genes;
     private double minValue;
     private double maxValue;
-    private int seed;
 
 
-    public FloatChromosome(int length, double minValue, double maxValue, int seed) {
+    public FloatChromosome(int length, double minValue, double maxValue, long seed) {
         super(length);
         if (minValue >= maxValue) {
             throw new IllegalArgumentException("minValue must be less than maxValue");
@@ -38,8 +37,10 @@ public class FloatChromosome extends Chromosome {
             if (arr.length != this.length) {
                 throw new IllegalArgumentException("Array length mismatch");
             }
-            this.genes = new double[length];
-            copyArray(arr, this.genes, length);
+            if (arr != this.genes) {
+                copyArray(arr, this.genes, length);
+            }
+            markGenesChanged();
         } else {
             throw new IllegalArgumentException("Expected double[]");
         }
@@ -55,6 +56,7 @@ public class FloatChromosome extends Chromosome {
              double fraction = (double) rnd / 1000.0;   // in [0,1)
              genes[i] = minValue + range * fraction;
          }
+         markGenesChanged();
      }
 
 
@@ -63,9 +65,19 @@ public class FloatChromosome extends Chromosome {
         FloatChromosome copy = new FloatChromosome(this.length, this.minValue, this.maxValue, this.seed);
         copyArray(this.genes, copy.genes, this.length);
         copy.fitness = this.fitness;
+        copy.fitnessValid = this.fitnessValid;
         return copy;
     }
 
+    @Override
+    public void copyFrom(Chromosome source) {
+        copyStateFrom(source);
+        FloatChromosome other = (FloatChromosome) source;
+        System.arraycopy(other.genes, 0, genes, 0, length);
+        this.minValue = other.minValue;
+        this.maxValue = other.maxValue;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("FloatChromosome: [");
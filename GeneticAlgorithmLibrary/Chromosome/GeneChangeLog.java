@@ -0,0 +1,85 @@
+package GeneticAlgorithmLibrary.Chromosome;
+
+// Bounded record of single-gene changes (index, old value, new value) since the
+// chromosome was last evaluated. Once more changes arrive than fit, or the genes are
+// replaced wholesale, the log is marked overflowed and consumers fall back to a full pass.
+public class GeneChangeLog {
+    private final int[] indices;
+    private final int[] from;
+    private final int[] to;
+    private int size;
+    private boolean overflowed;
+
+    public GeneChangeLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        this.indices = new int[capacity];
+        this.from = new int[capacity];
+        this.to = new int[capacity];
+    }
+
+    public void record(int index, int oldValue, int newValue) {
+        if (overflowed) return;
+        if (size == indices.length) {
+            overflowed = true;
+            return;
+        }
+        indices[size] = index;
+        from[size] = oldValue;
+        to[size] = newValue;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int indexAt(int k) {
+        return indices[k];
+    }
+
+    public int oldValueAt(int k) {
+        return from[k];
+    }
+
+    public int newValueAt(int k) {
+        return to[k];
+    }
+
+    public boolean isOverflowed() {
+        return overflowed;
+    }
+
+    public void markOverflowed() {
+        overflowed = true;
+    }
+
+    public void clear() {
+        size = 0;
+        overflowed = false;
+    }
+
+    public int getCapacity() {
+        return indices.length;
+    }
+
+    // Same-capacity copy into this log.
+    public void copyFrom(GeneChangeLog other) {
+        System.arraycopy(other.indices, 0, indices, 0, other.size);
+        System.arraycopy(other.from, 0, from, 0, other.size);
+        System.arraycopy(other.to, 0, to, 0, other.size);
+        size = other.size;
+        overflowed = other.overflowed;
+    }
+
+    public GeneChangeLog copy() {
+        GeneChangeLog copy = new GeneChangeLog(indices.length);
+        System.arraycopy(indices, 0, copy.indices, 0, size);
+        System.arraycopy(from, 0, copy.from, 0, size);
+        System.arraycopy(to, 0, copy.to, 0, size);
+        copy.size = size;
+        copy.overflowed = overflowed;
+        return copy;
+    }
+}
@@ -4,9 +4,13 @@ public class IntegerChromosome extends Chromosome {
     private int[] genes;
     private int minValue;
     private int maxValue;
-    private int seed;
 
-    public IntegerChromosome(int length, int minValue, int maxValue, int seed) {
+    // Optional support for incremental fitness functions: a log of single-gene changes
+    // since the last evaluation plus whatever state the fitness function keeps between calls.
+    private GeneChangeLog changeLog;
+    private double[] evaluationCache;
+
+    public IntegerChromosome(int length, int minValue, int maxValue, long seed) {
         super(length);
         if (minValue > maxValue) {
             throw new IllegalArgumentException("MinValue must be less than or equal to MaxValue");
@@ -36,14 +40,59 @@ public class IntegerChromosome extends Chromosome {
             if (arr.length != this.length) {
                 throw new IllegalArgumentException("Array length mismatch");
             }
-            this.genes = new int[length];
-            copyArray(arr, this.genes, length);
+            if (arr != this.genes) {
+                copyArray(arr, this.genes, length);
+            }
+            markGenesChanged();
         } else {
             throw new IllegalArgumentException("Expected int[]");
         }
     }
 
 
+    // Single-gene update; recorded in the change log when tracking is enabled.
+    public void setGene(int index, int value) {
+        int old = genes[index];
+        if (old == value) return;
+        if (changeLog != null) {
+            changeLog.record(index, old, value);
+        }
+        genes[index] = value;
+        fitnessValid = false;
+        modifications++;
+    }
+
+    public int getGene(int index) {
+        return genes[index];
+    }
+
+    @Override
+    public void markGenesChanged() {
+        super.markGenesChanged();
+        if (changeLog != null) {
+            changeLog.markOverflowed();
+        }
+    }
+
+    public void enableChangeTracking(int capacity) {
+        if (changeLog == null || changeLog.getCapacity() != capacity) {
+            changeLog = new GeneChangeLog(capacity);
+            changeLog.markOverflowed(); // nothing is known about earlier changes
+        }
+    }
+
+    public GeneChangeLog getChangeLog() {
+        return changeLog;
+    }
+
+    public double[] getEvaluationCache() {
+        return evaluationCache;
+    }
+
+    public void setEvaluationCache(double[] evaluationCache) {
+        this.evaluationCache = evaluationCache;
+    }
+
     @Override
     public void initialize() {
         int range = maxValue - minValue + 1; // Inclusive range
@@ -51,6 +100,7 @@ public class IntegerChromosome extends Chromosome {
             int rnd = nextRandom(range); // updates seed internally
             genes[i] = minValue + rnd;
         }
+        markGenesChanged();
     }
 
 
@@ -59,9 +109,37 @@ public class IntegerChromosome extends Chromosome {
         IntegerChromosome copy = new IntegerChromosome(this.length, this.minValue, this.maxValue, this.seed);
         copyArray(this.genes, copy.genes, this.length);
         copy.fitness = this.fitness;
+        copy.fitnessValid = this.fitnessValid;
+        if (this.changeLog != null) copy.changeLog = this.changeLog.copy();
+        if (this.evaluationCache != null) copy.evaluationCache = this.evaluationCache.clone();
         return copy;
     }
 
+    @Override
+    public void copyFrom(Chromosome source) {
+        copyStateFrom(source);
+        IntegerChromosome other = (IntegerChromosome) source;
+        System.arraycopy(other.genes, 0, genes, 0, length);
+        this.minValue = other.minValue;
+        this.maxValue = other.maxValue;
+
+        // buffers are reused once they exist, so a warm pool does not allocate
+        if (other.changeLog == null) {
+            this.changeLog = null;
+        } else if (this.changeLog == null || this.changeLog.getCapacity() != other.changeLog.getCapacity()) {
+            this.changeLog = other.changeLog.copy();
+        } else {
+            this.changeLog.copyFrom(other.changeLog);
+        }
+        if (other.evaluationCache == null) {
+            this.evaluationCache = null;
+        } else if (this.evaluationCache == null || this.evaluationCache.length != other.evaluationCache.length) {
+            this.evaluationCache = other.evaluationCache.clone();
+        } else {
+            System.arraycopy(other.evaluationCache, 0, evaluationCache, 0, evaluationCache.length);
+        }
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("IntegerChromosome: [");
@@ -0,0 +1,105 @@
+package GeneticAlgorithmLibrary.Chromosome;
+
+// Binary chromosome packed 64 genes per long: gene i is bit (i & 63) of word (i >>> 6).
+// Bits past getLength() in the last word are always zero.
+public class PackedBinaryChromosome extends Chromosome {
+    private long[] words;
+
+    public PackedBinaryChromosome(int length, long seed) {
+        super(length);
+        this.words = new long[wordCount(length)];
+        this.seed = seed;
+    }
+
+    public static int wordCount(int length) {
+        return (length + 63) >>> 6;
+    }
+
+    // Mask of the valid bits in the last word.
+    public static long tailMask(int length) {
+        int rem = length & 63;
+        return rem == 0 ? -1L : (1L << rem) - 1;
+    }
+
+    @Override
+    public Object getGenes() {
+        return words;
+    }
+
+    @Override
+    public void setGenes(Object genes) {
+        if (genes == null) {
+            throw new IllegalArgumentException("genes cannot be null");
+        }
+        if (genes instanceof long[]) {
+            long[] arr = (long[]) genes;
+            if (arr.length != words.length) {
+                throw new IllegalArgumentException("Array length mismatch");
+            }
+            if (arr != this.words) {
+                copyArray(arr, this.words, arr.length);
+            }
+            this.words[words.length - 1] &= tailMask(length);
+            markGenesChanged();
+        } else {
+            throw new IllegalArgumentException("Expected long[]");
+        }
+    }
+
+    public boolean getBit(int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public void setBit(int index, boolean value) {
+        if (value) {
+            words[index >>> 6] |= 1L << index;
+        } else {
+            words[index >>> 6] &= ~(1L << index);
+        }
+        markGenesChanged();
+    }
+
+    public int bitCount() {
+        int count = 0;
+        for (long w : words) count += Long.bitCount(w);
+        return count;
+    }
+
+    @Override
+    public void initialize() {
+        for (int i = 0; i < words.length; i++) {
+            words[i] = 0L;
+        }
+        for (int i = 0; i < length; i++) {
+            if (nextRandom(2) == 1) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+        markGenesChanged();
+    }
+
+    @Override
+    public Chromosome clone() {
+        PackedBinaryChromosome copy = new PackedBinaryChromosome(this.length, this.seed);
+        copyArray(this.words, copy.words, this.words.length);
+        copy.fitness = this.fitness;
+        copy.fitnessValid = this.fitnessValid;
+        return copy;
+    }
+
+    @Override
+    public void copyFrom(Chromosome source) {
+        copyStateFrom(source);
+        System.arraycopy(((PackedBinaryChromosome) source).words, 0, words, 0, words.length);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("PackedBinaryChromosome: ");
+        for (int i = 0; i < length; i++) {
+            sb.append(getBit(i) ? "1" : "0");
+        }
+        sb.append(" | fitness=").append(fitness);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,230 @@
+package GeneticAlgorithmLibrary.Chromosome;
+
+// An ordering of the values 0..length-1 (e.g. a job sequence), kept together with its
+// inverse (position[value] = index) so "where is value v" is O(1).
+//
+// All edits go through swap/move/reverse/place and record the first position that changed
+// since the last evaluation, so sequence-dependent fitness functions can keep the evaluated
+// prefix (see getEvaluationCache) and recompute only the suffix.
+public class PermutationChromosome extends Chromosome {
+    private int[] genes;
+    private int[] position;
+    private int firstChanged;          // == length when nothing changed since clearChanges()
+    private double[] evaluationCache;  // owned by the fitness function
+
+    public PermutationChromosome(int length, long seed) {
+        super(length);
+        this.genes = new int[length];
+        this.position = new int[length];
+        this.seed = seed;
+
+        for (int i = 0; i < length; i++) {
+            genes[i] = i;
+            position[i] = i;
+        }
+    }
+
+    @Override
+    public Object getGenes() {
+        return genes;
+    }
+
+    // Copies a permutation in; only positions from the first difference onwards count as changed.
+    @Override
+    public void setGenes(Object genes) {
+        if (genes == null) {
+            throw new IllegalArgumentException("Genes cannot be null");
+        }
+        if (!(genes instanceof int[])) {
+            throw new IllegalArgumentException("Expected int[]");
+        }
+        int[] arr = (int[]) genes;
+        if (arr.length != this.length) {
+            throw new IllegalArgumentException("Array length mismatch");
+        }
+        if (arr == this.genes) {
+            markGenesChanged();
+            return;
+        }
+        requirePermutation(arr);
+
+        int first = 0;
+        while (first < length && arr[first] == this.genes[first]) first++;
+        for (int i = first; i < length; i++) {
+            this.genes[i] = arr[i];
+            position[arr[i]] = i;
+        }
+        changedFrom(first);
+    }
+
+    public int get(int index) {
+        return genes[index];
+    }
+
+    public int positionOf(int value) {
+        return position[value];
+    }
+
+    // Swap mutation primitive.
+    public void swap(int i, int j) {
+        if (i == j) return;
+        int a = genes[i];
+        int b = genes[j];
+        genes[i] = b;
+        genes[j] = a;
+        position[b] = i;
+        position[a] = j;
+        changedFrom(Math.min(i, j));
+    }
+
+    // Insert mutation primitive: removes the element at `from` and reinserts it at `to`.
+    public void move(int from, int to) {
+        if (from == to) return;
+        int value = genes[from];
+        if (from < to) {
+            for (int i = from; i < to; i++) {
+                genes[i] = genes[i + 1];
+                position[genes[i]] = i;
+            }
+        } else {
+            for (int i = from; i > to; i--) {
+                genes[i] = genes[i - 1];
+                position[genes[i]] = i;
+            }
+        }
+        genes[to] = value;
+        position[value] = to;
+        changedFrom(Math.min(from, to));
+    }
+
+    // Inversion mutation primitive: reverses genes[from..to] (inclusive).
+    public void reverse(int from, int to) {
+        if (from > to) { int t = from; from = to; to = t; }
+        if (from == to) return;
+        changedFrom(from);
+        while (from < to) {
+            int a = genes[from];
+            int b = genes[to];
+            genes[from] = b;
+            genes[to] = a;
+            position[b] = from;
+            position[a] = to;
+            from++;
+            to--;
+        }
+    }
+
+    // Bulk rewrite primitive for crossover operators: writes value at index.
+    // The permutation is only valid again once the caller has placed every displaced value.
+    public void place(int index, int value) {
+        if (genes[index] == value) return;
+        genes[index] = value;
+        position[value] = index;
+        changedFrom(index);
+    }
+
+    // Smallest position changed since the last clearChanges(); length if none.
+    public int getFirstChangedPosition() {
+        return firstChanged;
+    }
+
+    // Called by the fitness function once its cached state matches the whole sequence.
+    public void clearChanges() {
+        firstChanged = length;
+    }
+
+    public double[] getEvaluationCache() {
+        return evaluationCache;
+    }
+
+    public void setEvaluationCache(double[] evaluationCache) {
+        this.evaluationCache = evaluationCache;
+    }
+
+    // Genes were edited through getGenes(): rebuild the index and treat everything as changed.
+    @Override
+    public void markGenesChanged() {
+        super.markGenesChanged();
+        for (int i = 0; i < length; i++) {
+            position[genes[i]] = i;
+        }
+        firstChanged = 0;
+    }
+
+    // Fisher-Yates shuffle driven by the chromosome's own generator.
+    @Override
+    public void initialize() {
+        for (int i = 0; i < length; i++) {
+            genes[i] = i;
+        }
+        for (int i = length - 1; i > 0; i--) {
+            int j = nextRandom(i + 1);
+            int tmp = genes[i]; genes[i] = genes[j]; genes[j] = tmp;
+        }
+        markGenesChanged();
+    }
+
+    @Override
+    public Chromosome clone() {
+        PermutationChromosome copy = new PermutationChromosome(this.length, this.seed);
+        System.arraycopy(this.genes, 0, copy.genes, 0, length);
+        System.arraycopy(this.position, 0, copy.position, 0, length);
+        copy.fitness = this.fitness;
+        copy.fitnessValid = this.fitnessValid;
+        copy.firstChanged = this.firstChanged;
+        if (this.evaluationCache != null) copy.evaluationCache = this.evaluationCache.clone();
+        return copy;
+    }
+
+    @Override
+    public void copyFrom(Chromosome source) {
+        copyStateFrom(source);
+        PermutationChromosome other = (PermutationChromosome) source;
+        System.arraycopy(other.genes, 0, genes, 0, length);
+        System.arraycopy(other.position, 0, position, 0, length);
+        this.firstChanged = other.firstChanged;
+
+        // the cache buffer is reused once it exists, so a warm pool does not allocate
+        if (other.evaluationCache == null) {
+            this.evaluationCache = null;
+        } else if (this.evaluationCache == null || this.evaluationCache.length != other.evaluationCache.length) {
+            this.evaluationCache = other.evaluationCache.clone();
+        } else {
+            System.arraycopy(other.evaluationCache, 0, this.evaluationCache, 0, this.evaluationCache.length);
+        }
+    }
+
+    private void changedFrom(int index) {
+        if (index < length) {
+            fitnessValid = false;
+            modifications++;
+            if (index < firstChanged) firstChanged = index;
+        }
+    }
+
+    // Uses the position index as scratch; it is rebuilt by the caller right after.
+    private void requirePermutation(int[] arr) {
+        for (int i = 0; i < length; i++) position[i] = -1;
+        boolean valid = true;
+        for (int i = 0; i < length && valid; i++) {
+            int v = arr[i];
+            valid = v >= 0 && v < length && position[v] == -1;
+            if (valid) position[v] = i;
+        }
+        for (int i = 0; i < length; i++) position[genes[i]] = i;
+        if (!valid) {
+            throw new IllegalArgumentException("Genes must be a permutation of 0.." + (length - 1));
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("PermutationChromosome: [");
+        for (int i = 0; i < length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(genes[i]);
+        }
+        sb.append("] | fitness=").append(fitness);
+        return sb.toString();
+    }
+}
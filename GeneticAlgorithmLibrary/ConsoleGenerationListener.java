@@ -0,0 +1,15 @@
+package GeneticAlgorithmLibrary;
+
+// Prints the classic one-line progress report.
+public class ConsoleGenerationListener implements GenerationListener {
+
+    @Override
+    public void onGeneration(GenerationStats stats) {
+        if (stats.getGeneration() == 0) {
+            System.out.println("Initial best fitness: " + String.format("%.4f", stats.getBestSoFar()));
+        } else {
+            System.out.println("Generation " + stats.getGeneration() + " → Best fitness: "
+                    + String.format("%.4f", stats.getBestSoFar()));
+        }
+    }
+}
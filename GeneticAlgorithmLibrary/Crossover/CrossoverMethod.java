@@ -8,4 +8,14 @@ import java.util.List;
 public interface CrossoverMethod {
 
     List<Chromosome> crossover(List<Chromosome> parents, double crossoverRate);
+
+    // Writes the two children into existing chromosomes instead of allocating new ones.
+    // Parents are left untouched. The default crosses copies of the parents through crossover()
+    // and copies the result into the children, so it allocates; operators override it to avoid that.
+    default void crossoverInto(Chromosome parent1, Chromosome parent2,
+                               Chromosome child1, Chromosome child2, double crossoverRate) {
+        List<Chromosome> offspring = crossover(List.of(parent1.clone(), parent2.clone()), crossoverRate);
+        child1.copyFrom(offspring.get(0));
+        child2.copyFrom(offspring.get(1));
+    }
 }
@@ -0,0 +1,44 @@
+package GeneticAlgorithmLibrary.Crossover;
+
+import GeneticAlgorithmLibrary.Chromosome.PermutationChromosome;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
+
+import java.util.Arrays;
+
+
+// CX: positions split into cycles under i -> (position of p2[i] in p1); children take whole
+// cycles alternately from each parent, so every gene keeps a position it had in one of the
+// parents. Deterministic; O(n). The visited flags live in a per-thread buffer, grown on demand,
+// so one instance can be shared by the async engine's workers without allocating per call.
+public class CycleCrossover extends PermutationCrossover {
+
+    private static final ThreadLocal<boolean[]> VISITED = ThreadLocal.withInitial(() -> new boolean[0]);
+
+    @Override
+    protected void recombine(PermutationChromosome p1, PermutationChromosome p2,
+                             PermutationChromosome c1, PermutationChromosome c2, RandomSource random) {
+        int n = p1.getLength();
+        boolean[] visited = VISITED.get();
+        if (visited.length < n) {
+            visited = new boolean[n];
+            VISITED.set(visited);
+        } else {
+            Arrays.fill(visited, 0, n, false);
+        }
+        boolean fromOther = false;
+
+        for (int start = 0; start < n; start++) {
+            if (visited[start]) continue;
+            int i = start;
+            do {
+                visited[i] = true;
+                if (fromOther) {
+                    c1.place(i, p2.get(i));
+                    c2.place(i, p1.get(i));
+                }
+                i = p1.positionOf(p2.get(i));
+            } while (i != start);
+            fromOther = !fromOther;
+        }
+    }
+}
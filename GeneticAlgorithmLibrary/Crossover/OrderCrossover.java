@@ -0,0 +1,37 @@
+package GeneticAlgorithmLibrary.Crossover;
+
+import GeneticAlgorithmLibrary.Chromosome.PermutationChromosome;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
+
+
+// OX: each child keeps a random segment [a, b] of its own parent and fills the remaining
+// positions, starting after b and wrapping around, with the other parent's genes in the order
+// they appear there (again starting after b). Membership in the segment is a position lookup,
+// so the whole operator is O(n).
+public class OrderCrossover extends PermutationCrossover {
+
+    @Override
+    protected void recombine(PermutationChromosome p1, PermutationChromosome p2,
+                             PermutationChromosome c1, PermutationChromosome c2, RandomSource random) {
+        int n = p1.getLength();
+        int a = random.nextInt(n);
+        int b = random.nextInt(n);
+        if (a > b) { int tmp = a; a = b; b = tmp; }
+
+        fill(p1, p2, c1, a, b);
+        fill(p2, p1, c2, a, b);
+    }
+
+    private static void fill(PermutationChromosome keep, PermutationChromosome donor,
+                             PermutationChromosome child, int a, int b) {
+        int n = keep.getLength();
+        int write = (b + 1) % n;
+        for (int k = 1; k <= n; k++) {
+            int value = donor.get((b + k) % n);
+            int kept = keep.positionOf(value);
+            if (kept >= a && kept <= b) continue;
+            child.place(write, value);
+            write = (write + 1) % n;
+        }
+    }
+}
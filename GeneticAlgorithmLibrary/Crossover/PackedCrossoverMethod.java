@@ -0,0 +1,11 @@
+package GeneticAlgorithmLibrary.Crossover;
+
+import GeneticAlgorithmLibrary.PackedPopulation;
+
+
+public interface PackedCrossoverMethod {
+
+    // Writes two children into rows child1/child2 of offspring; parents are left untouched.
+    void crossover(PackedPopulation parents, int parent1, int parent2,
+                   PackedPopulation offspring, int child1, int child2, double crossoverRate);
+}
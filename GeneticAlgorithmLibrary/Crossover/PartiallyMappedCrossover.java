@@ -0,0 +1,25 @@
+package GeneticAlgorithmLibrary.Crossover;
+
+import GeneticAlgorithmLibrary.Chromosome.PermutationChromosome;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
+
+
+// PMX: each child takes the other parent's genes in a random segment [a, b]; the values they
+// displace are moved to where the mapping sends them. Done as one swap per segment position
+// using the position index, so it costs O(b - a) instead of O(n).
+public class PartiallyMappedCrossover extends PermutationCrossover {
+
+    @Override
+    protected void recombine(PermutationChromosome p1, PermutationChromosome p2,
+                             PermutationChromosome c1, PermutationChromosome c2, RandomSource random) {
+        int n = p1.getLength();
+        int a = random.nextInt(n);
+        int b = random.nextInt(n);
+        if (a > b) { int tmp = a; a = b; b = tmp; }
+
+        for (int i = a; i <= b; i++) {
+            c1.swap(i, c1.positionOf(p2.get(i)));
+            c2.swap(i, c2.positionOf(p1.get(i)));
+        }
+    }
+}
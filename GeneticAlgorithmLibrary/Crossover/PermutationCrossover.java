@@ -0,0 +1,60 @@
+package GeneticAlgorithmLibrary.Crossover;
+
+import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+import GeneticAlgorithmLibrary.Chromosome.PermutationChromosome;
+import GeneticAlgorithmLibrary.Randomness.RandomContext;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+// Base for order-based crossovers on PermutationChromosome. Children start as copies of their
+// parents and are rewritten in place through the chromosome's primitives, so crossover()
+// allocates only the two clones, crossoverInto() nothing, and the parents are left untouched.
+public abstract class PermutationCrossover implements CrossoverMethod {
+
+    @Override
+    public List<Chromosome> crossover(List<Chromosome> parents, double crossoverRate) {
+        RandomSource random = RandomContext.current();
+        List<Chromosome> offspring = new ArrayList<>();
+        if (parents.size() < 2) return offspring;
+
+        for (int i = 0; i < parents.size(); i += 2) {
+            PermutationChromosome p1 = permutation(parents.get(i));
+            PermutationChromosome p2 = permutation(parents.get((i + 1) % parents.size()));
+            PermutationChromosome c1 = (PermutationChromosome) p1.clone();
+            PermutationChromosome c2 = (PermutationChromosome) p2.clone();
+            if (random.nextDouble() <= crossoverRate) {
+                recombine(p1, p2, c1, c2, random);
+            }
+            offspring.add(c1);
+            offspring.add(c2);
+        }
+        return offspring;
+    }
+
+    @Override
+    public void crossoverInto(Chromosome parent1, Chromosome parent2,
+                              Chromosome child1, Chromosome child2, double crossoverRate) {
+        RandomSource random = RandomContext.current();
+        child1.copyFrom(parent1);
+        child2.copyFrom(parent2);
+        if (random.nextDouble() > crossoverRate) {
+            return;
+        }
+        recombine(permutation(parent1), permutation(parent2),
+                permutation(child1), permutation(child2), random);
+    }
+
+    // c1 and c2 hold copies of p1 and p2 on entry.
+    protected abstract void recombine(PermutationChromosome p1, PermutationChromosome p2,
+                                      PermutationChromosome c1, PermutationChromosome c2, RandomSource random);
+
+    private static PermutationChromosome permutation(Chromosome chromosome) {
+        if (!(chromosome instanceof PermutationChromosome p)) {
+            throw new IllegalArgumentException("Permutation crossover requires PermutationChromosome");
+        }
+        return p;
+    }
+}
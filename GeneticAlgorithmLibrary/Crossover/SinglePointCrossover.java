@@ -1,30 +1,39 @@
 package GeneticAlgorithmLibrary.Crossover;
 
 import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+import GeneticAlgorithmLibrary.PackedPopulation;
+import GeneticAlgorithmLibrary.Randomness.RandomContext;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
 import java.util.ArrayList;
 import java.util.List;
 
 
-public class SinglePointCrossover implements CrossoverMethod {
+public class SinglePointCrossover implements CrossoverMethod, PackedCrossoverMethod {
     @Override
     public List<Chromosome> crossover(List<Chromosome> parents, double crossoverRate) {
         List<Chromosome> offspring = new ArrayList<>();
         if (parents.size() < 2) return offspring;
 
-        Chromosome p1 = parents.get(0);
-        Chromosome p2 = parents.get(1);
+        // Parents are paired (0,1), (2,3), ...; an odd last parent pairs with the first
+        for (int i = 0; i < parents.size(); i += 2) {
+            crossoverPair(parents.get(i), parents.get((i + 1) % parents.size()), crossoverRate, offspring);
+        }
+        return offspring;
+    }
 
-        if (Math.random() > crossoverRate) {
+    private void crossoverPair(Chromosome p1, Chromosome p2, double crossoverRate, List<Chromosome> offspring) {
+        RandomSource random = RandomContext.current();
+        if (random.nextDouble() > crossoverRate) {
             offspring.add(p1.clone());
             offspring.add(p2.clone());
-            return offspring;
+            return;
         }
 
         Object g1 = p1.getGenes();
         Object g2 = p2.getGenes();
 
         int length = p1.getLength();
-        int point = (int) (Math.random() * length);
+        int point = random.nextInt(length);
 
         if (g1 instanceof int[] && g2 instanceof int[]) {
             int[] a = (int[]) g1;
@@ -44,10 +53,49 @@ public class SinglePointCrossover implements CrossoverMethod {
 
             p1.setGenes(child1);
             p2.setGenes(child2);
+        } else if (g1 instanceof long[] && g2 instanceof long[]) {
+            TwoPointCrossover.swapBitRange((long[]) g1, (long[]) g2, point, length);
+            p1.markGenesChanged();
+            p2.markGenesChanged();
         }
 
         offspring.add(p1.clone());
         offspring.add(p2.clone());
-        return offspring;
+    }
+
+    @Override
+    public void crossoverInto(Chromosome parent1, Chromosome parent2,
+                              Chromosome child1, Chromosome child2, double crossoverRate) {
+        RandomSource random = RandomContext.current();
+        child1.copyFrom(parent1);
+        child2.copyFrom(parent2);
+        if (random.nextDouble() > crossoverRate) {
+            return;
+        }
+
+        int length = parent1.getLength();
+        int point = random.nextInt(length);
+        TwoPointCrossover.swapRange(child1.getGenes(), child2.getGenes(), point, length);
+        child1.markGenesChanged();
+        child2.markGenesChanged();
+    }
+
+    @Override
+    public void crossover(PackedPopulation parents, int parent1, int parent2,
+                          PackedPopulation offspring, int child1, int child2, double crossoverRate) {
+        RandomSource random = RandomContext.current();
+        offspring.copyRow(parents, parent1, child1);
+        offspring.copyRow(parents, parent2, child2);
+        if (random.nextDouble() > crossoverRate) {
+            return;
+        }
+
+        int length = parents.getLength();
+        int point = random.nextInt(length);
+        int[] src = parents.getGenes();
+        int[] dst = offspring.getGenes();
+        // tails come from the other parent
+        System.arraycopy(src, parents.offset(parent2) + point, dst, offspring.offset(child1) + point, length - point);
+        System.arraycopy(src, parents.offset(parent1) + point, dst, offspring.offset(child2) + point, length - point);
     }
 }
@@ -1,28 +1,32 @@
 package GeneticAlgorithmLibrary.Crossover;
 
 import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+import GeneticAlgorithmLibrary.PackedPopulation;
+import GeneticAlgorithmLibrary.Randomness.RandomContext;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
 import java.util.ArrayList;
 import java.util.List;
 
-public class TwoPointCrossover implements CrossoverMethod {
+public class TwoPointCrossover implements CrossoverMethod, PackedCrossoverMethod {
 
     @Override
     public List<Chromosome> crossover(List<Chromosome> parents, double crossoverRate) {
+        RandomSource random = RandomContext.current();
         List<Chromosome> offspring = new ArrayList<>();
 
         for (int i = 0; i < parents.size(); i += 2) {
             Chromosome p1 = parents.get(i);
             Chromosome p2 = parents.get((i + 1) % parents.size());
 
-            if (Math.random() > crossoverRate) {
+            if (random.nextDouble() > crossoverRate) {
                 offspring.add(p1.clone());
                 offspring.add(p2.clone());
                 continue;
             }
 
             int len = p1.getLength();
-            int pA = (int) (Math.random() * len);
-            int pB = (int) (Math.random() * len);
+            int pA = random.nextInt(len);
+            int pB = random.nextInt(len);
             if (pA > pB) { int tmp = pA; pA = pB; pB = tmp; }
 
             Object g1 = p1.getGenes();
@@ -46,8 +50,14 @@ public class TwoPointCrossover implements CrossoverMethod {
                 for (int j = pA; j < pB; j++) {
                     double tmp = a[j]; a[j] = b[j]; b[j] = tmp;
                 }
+            } else if (g1 instanceof long[]) {
+                swapBitRange((long[]) g1, (long[]) g2, pA, pB);
             }
 
+            // the swap above edited the parents' arrays in place
+            p1.markGenesChanged();
+            p2.markGenesChanged();
+
             Chromosome c1 = p1.clone();
             Chromosome c2 = p2.clone();
             c1.setGenes(g1);
@@ -58,4 +68,81 @@ public class TwoPointCrossover implements CrossoverMethod {
 
         return offspring;
     }
+
+    @Override
+    public void crossoverInto(Chromosome parent1, Chromosome parent2,
+                              Chromosome child1, Chromosome child2, double crossoverRate) {
+        RandomSource random = RandomContext.current();
+        child1.copyFrom(parent1);
+        child2.copyFrom(parent2);
+        if (random.nextDouble() > crossoverRate) {
+            return;
+        }
+
+        int len = parent1.getLength();
+        int pA = random.nextInt(len);
+        int pB = random.nextInt(len);
+        if (pA > pB) { int tmp = pA; pA = pB; pB = tmp; }
+
+        swapRange(child1.getGenes(), child2.getGenes(), pA, pB);
+        child1.markGenesChanged();
+        child2.markGenesChanged();
+    }
+
+    // Swap genes [from, to) between two gene arrays of the same type.
+    static void swapRange(Object g1, Object g2, int from, int to) {
+        if (g1 instanceof boolean[] a && g2 instanceof boolean[] b) {
+            for (int j = from; j < to; j++) {
+                boolean tmp = a[j]; a[j] = b[j]; b[j] = tmp;
+            }
+        } else if (g1 instanceof int[] a && g2 instanceof int[] b) {
+            for (int j = from; j < to; j++) {
+                int tmp = a[j]; a[j] = b[j]; b[j] = tmp;
+            }
+        } else if (g1 instanceof double[] a && g2 instanceof double[] b) {
+            for (int j = from; j < to; j++) {
+                double tmp = a[j]; a[j] = b[j]; b[j] = tmp;
+            }
+        } else if (g1 instanceof long[] a && g2 instanceof long[] b) {
+            swapBitRange(a, b, from, to);
+        } else {
+            throw new IllegalArgumentException("Parents must have the same gene array type");
+        }
+    }
+
+    // Swap bits [from, to) of two packed bit arrays, a whole word at a time.
+    static void swapBitRange(long[] a, long[] b, int from, int to) {
+        if (from >= to) return;
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        for (int w = firstWord; w <= lastWord; w++) {
+            long mask = -1L;
+            if (w == firstWord) mask &= -1L << from;
+            if (w == lastWord) mask &= -1L >>> (63 - ((to - 1) & 63));
+            long diff = (a[w] ^ b[w]) & mask;
+            a[w] ^= diff;
+            b[w] ^= diff;
+        }
+    }
+
+    @Override
+    public void crossover(PackedPopulation parents, int parent1, int parent2,
+                          PackedPopulation offspring, int child1, int child2, double crossoverRate) {
+        RandomSource random = RandomContext.current();
+        offspring.copyRow(parents, parent1, child1);
+        offspring.copyRow(parents, parent2, child2);
+        if (random.nextDouble() > crossoverRate) {
+            return;
+        }
+
+        int len = parents.getLength();
+        int pA = random.nextInt(len);
+        int pB = random.nextInt(len);
+        if (pA > pB) { int tmp = pA; pA = pB; pB = tmp; }
+
+        int[] src = parents.getGenes();
+        int[] dst = offspring.getGenes();
+        System.arraycopy(src, parents.offset(parent2) + pA, dst, offspring.offset(child1) + pA, pB - pA);
+        System.arraycopy(src, parents.offset(parent1) + pA, dst, offspring.offset(child2) + pA, pB - pA);
+    }
 }
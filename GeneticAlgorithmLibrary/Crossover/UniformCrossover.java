@@ -1,21 +1,25 @@
 package GeneticAlgorithmLibrary.Crossover;
 
 import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+import GeneticAlgorithmLibrary.PackedPopulation;
+import GeneticAlgorithmLibrary.Randomness.RandomContext;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
 import java.util.ArrayList;
 import java.util.List;
 
 
-public class UniformCrossover implements CrossoverMethod {
+public class UniformCrossover implements CrossoverMethod, PackedCrossoverMethod {
 
     @Override
     public List<Chromosome> crossover(List<Chromosome> parents, double crossoverRate) {
+        RandomSource random = RandomContext.current();
         List<Chromosome> offspring = new ArrayList<>();
 
         for (int i = 0; i < parents.size(); i += 2) {
             Chromosome p1 = parents.get(i);
             Chromosome p2 = parents.get((i + 1) % parents.size());
 
-            if (Math.random() > crossoverRate) {
+            if (random.nextDouble() > crossoverRate) {
                 offspring.add(p1.clone());
                 offspring.add(p2.clone());
                 continue;
@@ -28,7 +32,7 @@ public class UniformCrossover implements CrossoverMethod {
                 boolean[] a = (boolean[]) g1;
                 boolean[] b = (boolean[]) g2;
                 for (int j = 0; j < a.length; j++) {
-                    if (Math.random() < 0.5) {
+                    if (random.nextDouble() < 0.5) {
                         boolean tmp = a[j]; a[j] = b[j]; b[j] = tmp;
                     }
                 }
@@ -36,7 +40,7 @@ public class UniformCrossover implements CrossoverMethod {
                 int[] a = (int[]) g1;
                 int[] b = (int[]) g2;
                 for (int j = 0; j < a.length; j++) {
-                    if (Math.random() < 0.5) {
+                    if (random.nextDouble() < 0.5) {
                         int tmp = a[j]; a[j] = b[j]; b[j] = tmp;
                     }
                 }
@@ -44,12 +48,25 @@ public class UniformCrossover implements CrossoverMethod {
                 double[] a = (double[]) g1;
                 double[] b = (double[]) g2;
                 for (int j = 0; j < a.length; j++) {
-                    if (Math.random() < 0.5) {
+                    if (random.nextDouble() < 0.5) {
                         double tmp = a[j]; a[j] = b[j]; b[j] = tmp;
                     }
                 }
+            } else if (g1 instanceof long[]) {
+                // one random 64-bit mask per word decides which genes swap
+                long[] a = (long[]) g1;
+                long[] b = (long[]) g2;
+                for (int w = 0; w < a.length; w++) {
+                    long diff = (a[w] ^ b[w]) & random.nextLong();
+                    a[w] ^= diff;
+                    b[w] ^= diff;
+                }
             }
 
+            // the swap above edited the parents' arrays in place
+            p1.markGenesChanged();
+            p2.markGenesChanged();
+
             Chromosome c1 = p1.clone();
             Chromosome c2 = p2.clone();
             c1.setGenes(g1);
@@ -60,4 +77,65 @@ public class UniformCrossover implements CrossoverMethod {
 
         return offspring;
     }
+
+    @Override
+    public void crossoverInto(Chromosome parent1, Chromosome parent2,
+                              Chromosome child1, Chromosome child2, double crossoverRate) {
+        RandomSource random = RandomContext.current();
+        child1.copyFrom(parent1);
+        child2.copyFrom(parent2);
+        if (random.nextDouble() > crossoverRate) {
+            return;
+        }
+
+        Object g1 = child1.getGenes();
+        Object g2 = child2.getGenes();
+        if (g1 instanceof long[] a && g2 instanceof long[] b) {
+            for (int w = 0; w < a.length; w++) {
+                long diff = (a[w] ^ b[w]) & random.nextLong();
+                a[w] ^= diff;
+                b[w] ^= diff;
+            }
+        } else if (g1 instanceof int[] a && g2 instanceof int[] b) {
+            for (int j = 0; j < a.length; j++) {
+                if (random.nextDouble() < 0.5) {
+                    int tmp = a[j]; a[j] = b[j]; b[j] = tmp;
+                }
+            }
+        } else if (g1 instanceof boolean[] a && g2 instanceof boolean[] b) {
+            for (int j = 0; j < a.length; j++) {
+                if (random.nextDouble() < 0.5) {
+                    boolean tmp = a[j]; a[j] = b[j]; b[j] = tmp;
+                }
+            }
+        } else if (g1 instanceof double[] a && g2 instanceof double[] b) {
+            for (int j = 0; j < a.length; j++) {
+                if (random.nextDouble() < 0.5) {
+                    double tmp = a[j]; a[j] = b[j]; b[j] = tmp;
+                }
+            }
+        }
+        child1.markGenesChanged();
+        child2.markGenesChanged();
+    }
+
+    @Override
+    public void crossover(PackedPopulation parents, int parent1, int parent2,
+                          PackedPopulation offspring, int child1, int child2, double crossoverRate) {
+        RandomSource random = RandomContext.current();
+        offspring.copyRow(parents, parent1, child1);
+        offspring.copyRow(parents, parent2, child2);
+        if (random.nextDouble() > crossoverRate) {
+            return;
+        }
+
+        int[] dst = offspring.getGenes();
+        int a = offspring.offset(child1);
+        int b = offspring.offset(child2);
+        for (int j = 0; j < parents.getLength(); j++) {
+            if (random.nextDouble() < 0.5) {
+                int tmp = dst[a + j]; dst[a + j] = dst[b + j]; dst[b + j] = tmp;
+            }
+        }
+    }
 }
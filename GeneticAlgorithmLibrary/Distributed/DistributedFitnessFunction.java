@@ -0,0 +1,417 @@
+package GeneticAlgorithmLibrary.Distributed;
+
+import GeneticAlgorithmLibrary.FitnessFunction;
+import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Master side of distributed evaluation: a FitnessFunction that ships genomes to
+// EvaluationWorkers over TCP. Plug it into GAEngine like any other fitness function.
+//
+// evaluateBatch cuts the batch into tasks of batchSize genomes and deals them round-robin
+// onto per-worker queues. Each worker connection has a sender thread and a receiver thread:
+//   - the sender keeps up to inFlightPerWorker tasks outstanding (pipelining). When its own
+//     queue is empty it steals from the back of the longest other queue, so fast workers
+//     end up doing more of the batch.
+//   - the receiver writes the returned fitness values straight into the caller's array.
+// A worker whose connection fails, or that stays silent longer than the response timeout
+// with work outstanding, is dropped. Its queued and in-flight tasks go back to the front of
+// the surviving workers' queues. Dropped workers are not reconnected.
+public class DistributedFitnessFunction implements FitnessFunction, AutoCloseable {
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 5_000;
+
+    private final List<InetSocketAddress> addresses;
+    private int batchSize = 32;
+    private int inFlightPerWorker = 2;
+    private int responseTimeoutMillis = 60_000;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition workAvailable = lock.newCondition();
+    private List<Connection> connections;   // created on first use
+    private long nextTaskId;
+    private long redispatched;
+    private int dealFrom;
+    private boolean closed;
+
+    public DistributedFitnessFunction(List<InetSocketAddress> workers) {
+        if (workers.isEmpty()) {
+            throw new IllegalArgumentException("At least one worker address is required");
+        }
+        this.addresses = List.copyOf(workers);
+    }
+
+    // --- Configuration (before the first evaluation) ---
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        this.batchSize = batchSize;
+    }
+
+    public void setInFlightPerWorker(int inFlightPerWorker) {
+        if (inFlightPerWorker < 1) {
+            throw new IllegalArgumentException("At least one batch per worker must be allowed in flight");
+        }
+        this.inFlightPerWorker = inFlightPerWorker;
+    }
+
+    // Longest a worker may take to answer while it has work outstanding (0 = wait forever).
+    public void setResponseTimeoutMillis(int responseTimeoutMillis) {
+        if (responseTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Response timeout cannot be negative");
+        }
+        this.responseTimeoutMillis = responseTimeoutMillis;
+    }
+
+    @Override
+    public double evaluate(Chromosome chromosome) {
+        double[] out = new double[1];
+        evaluateBatch(List.of(chromosome), out);
+        return out[0];
+    }
+
+    // Blocks until every genome of the batch has a fitness value.
+    @Override
+    public void evaluateBatch(List<Chromosome> batch, double[] out) {
+        if (batch.isEmpty()) return;
+        int tasks = (batch.size() + batchSize - 1) / batchSize;
+        Call call = new Call(tasks);
+
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Distributed fitness function is closed");
+            }
+            connectIfNeeded();
+            List<Connection> live = liveConnections();
+            if (live.isEmpty()) {
+                throw new IllegalStateException("No evaluation workers available");
+            }
+            for (int from = 0; from < batch.size(); from += batchSize) {
+                int to = Math.min(from + batchSize, batch.size());
+                Task task = new Task(nextTaskId++, batch.subList(from, to), out, from, call);
+                live.get(dealFrom++ % live.size()).queue.addLast(task);
+            }
+            workAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            call.done.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // Batches may be submitted from several evaluation threads at once.
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    // --- Statistics ---
+    public int getLiveWorkers() {
+        lock.lock();
+        try {
+            return connections == null ? 0 : liveConnections().size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Tasks moved to another worker after their worker was dropped.
+    public long getRedispatched() {
+        lock.lock();
+        try {
+            return redispatched;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Completed tasks per worker, in the order the addresses were given.
+    public long[] getCompletedBatches() {
+        lock.lock();
+        try {
+            long[] completed = new long[addresses.size()];
+            if (connections != null) {
+                for (int w = 0; w < completed.length; w++) completed[w] = connections.get(w).completed;
+            }
+            return completed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        List<Connection> toClose;
+        lock.lock();
+        try {
+            if (closed) return;
+            closed = true;
+            toClose = connections == null ? List.of() : connections;
+            for (Connection c : toClose) {
+                for (Task task : c.queue) task.call.fail(new IllegalStateException("Distributed fitness function closed"));
+                for (Task task : c.inFlight.values()) task.call.fail(new IllegalStateException("Distributed fitness function closed"));
+                c.alive = false;
+            }
+            workAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (Connection c : toClose) c.closeSocket();
+    }
+
+    // --- Internals (fields below are guarded by lock unless noted) ---
+    private void connectIfNeeded() {
+        if (connections != null) return;
+        connections = new ArrayList<>();
+        for (InetSocketAddress address : addresses) {
+            Connection c = new Connection(address);
+            connections.add(c);
+            try {
+                c.open(responseTimeoutMillis);
+            } catch (IOException e) {
+                c.alive = false;
+                c.closeSocket();
+            }
+        }
+    }
+
+    private List<Connection> liveConnections() {
+        List<Connection> live = new ArrayList<>();
+        for (Connection c : connections) {
+            if (c.alive) live.add(c);
+        }
+        return live;
+    }
+
+    // Own queue first, otherwise steal the newest task of the longest other queue.
+    private Task nextTask(Connection self) {
+        Task task = self.queue.pollFirst();
+        while (task == null) {
+            Connection victim = null;
+            for (Connection c : connections) {
+                if (c != self && c.alive && !c.queue.isEmpty() && (victim == null || c.queue.size() > victim.queue.size())) {
+                    victim = c;
+                }
+            }
+            if (victim == null) return null;
+            task = victim.queue.pollLast();
+        }
+        return task;
+    }
+
+    private void drop(Connection dead, Exception cause) {
+        lock.lock();
+        try {
+            if (!dead.alive) return;
+            dead.alive = false;
+            List<Task> orphaned = new ArrayList<>(dead.inFlight.values());
+            orphaned.addAll(dead.queue);
+            dead.inFlight.clear();
+            dead.queue.clear();
+
+            List<Connection> live = liveConnections();
+            if (live.isEmpty()) {
+                for (Task task : orphaned) {
+                    task.call.fail(new IllegalStateException("All evaluation workers failed", cause));
+                }
+            } else {
+                redispatched += orphaned.size();
+                for (int i = orphaned.size() - 1; i >= 0; i--) {
+                    live.get(i % live.size()).queue.addFirst(orphaned.get(i));
+                }
+            }
+            workAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        dead.closeSocket();
+    }
+
+    private final class Connection {
+        final InetSocketAddress address;
+        final ArrayDeque<Task> queue = new ArrayDeque<>();
+        final Map<Long, Task> inFlight = new HashMap<>();
+        boolean alive = true;
+        long completed;
+
+        // owned by the sender / receiver threads
+        private Socket socket;
+        private DataInputStream in;
+        private OutputStream out;
+
+        Connection(InetSocketAddress address) {
+            this.address = address;
+        }
+
+        void open(int timeoutMillis) throws IOException {
+            socket = new Socket();
+            socket.connect(address, CONNECT_TIMEOUT_MILLIS);
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(timeoutMillis);
+            in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 1 << 16));
+            out = new BufferedOutputStream(socket.getOutputStream(), 1 << 16);
+            start("send", this::sendLoop);
+            start("receive", this::receiveLoop);
+        }
+
+        private void start(String role, Runnable loop) {
+            Thread t = new Thread(loop, "ga-distributed-" + role + "-" + address.getPort());
+            t.setDaemon(true);
+            t.start();
+        }
+
+        void closeSocket() {
+            try {
+                if (socket != null) socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        private void sendLoop() {
+            ByteBuffer frame = ByteBuffer.allocate(1 << 12);
+            while (true) {
+                Task task;
+                lock.lock();
+                try {
+                    while (true) {
+                        if (!alive || closed) return;
+                        task = inFlight.size() < inFlightPerWorker ? nextTask(this) : null;
+                        if (task == null) {
+                            workAvailable.awaitUninterruptibly();
+                        } else if (task.call.done.isDone()) {
+                            continue;  // the call already failed; drop its remaining tasks
+                        } else {
+                            break;
+                        }
+                    }
+                    inFlight.put(task.id, task);
+                } finally {
+                    lock.unlock();
+                }
+
+                try {
+                    int bytes = Frames.HEADER_BYTES;
+                    for (Chromosome c : task.genomes) bytes += GenomeCodec.encodedSize(c.getGenes());
+                    frame = Frames.ensure(frame, bytes);
+                    frame.putInt(bytes - 4).putLong(task.id).putInt(task.genomes.size());
+                    for (Chromosome c : task.genomes) GenomeCodec.write(frame, c.getGenes());
+                    out.write(frame.array(), 0, frame.position());
+                    out.flush();
+                } catch (IOException e) {
+                    drop(this, e);
+                    return;
+                }
+            }
+        }
+
+        private void receiveLoop() {
+            ByteBuffer frame = ByteBuffer.allocate(1 << 12);
+            while (true) {
+                Task task;
+                int count;
+                try {
+                    int length;
+                    try {
+                        length = in.readInt();
+                    } catch (SocketTimeoutException e) {
+                        lock.lock();
+                        try {
+                            if (!alive) return;
+                            if (inFlight.isEmpty()) continue;  // idle, not stuck
+                        } finally {
+                            lock.unlock();
+                        }
+                        throw e;
+                    }
+                    frame = Frames.readBody(in, length, frame);
+                    long id = frame.getLong();
+                    count = frame.getInt();
+                    lock.lock();
+                    try {
+                        task = inFlight.remove(id);
+                        if (task != null) completed++;
+                        workAvailable.signalAll();
+                    } finally {
+                        lock.unlock();
+                    }
+                } catch (IOException e) {
+                    drop(this, e);
+                    return;
+                }
+
+                if (task == null || task.call.done.isDone()) continue;
+                if (count == Frames.ERROR) {
+                    byte[] message = new byte[frame.getInt()];
+                    frame.get(message);
+                    task.call.fail(new IllegalStateException("Worker " + address + " failed to evaluate: "
+                            + new String(message, StandardCharsets.UTF_8)));
+                } else {
+                    frame.asDoubleBuffer().get(task.out, task.offset, count);
+                    task.call.taskDone();
+                }
+            }
+        }
+    }
+
+    private static final class Task {
+        final long id;
+        final List<Chromosome> genomes;
+        final double[] out;
+        final int offset;
+        final Call call;
+
+        Task(long id, List<Chromosome> genomes, double[] out, int offset, Call call) {
+            this.id = id;
+            this.genomes = genomes;
+            this.out = out;
+            this.offset = offset;
+            this.call = call;
+        }
+    }
+
+    // One evaluateBatch invocation: completes when all of its tasks have been answered.
+    private static final class Call {
+        final AtomicInteger remaining;
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        Call(int tasks) {
+            this.remaining = new AtomicInteger(tasks);
+        }
+
+        void taskDone() {
+            if (remaining.decrementAndGet() == 0) done.complete(null);
+        }
+
+        void fail(RuntimeException e) {
+            done.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package GeneticAlgorithmLibrary.Distributed;
+
+import GeneticAlgorithmLibrary.FitnessFunction;
+import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Worker side of distributed evaluation: accepts master connections and answers each batch of
+// genomes with their fitness values. Requests on one connection are answered in order; the
+// master keeps several in flight so the network round trip overlaps with evaluation.
+// Genomes are decoded into reusable prototype clones, then scored with evaluateBatch.
+public class EvaluationWorker implements AutoCloseable {
+
+    private final Chromosome prototype;
+    private final FitnessFunction fitnessFunction;
+    private final ServerSocket server;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicLong evaluations = new AtomicLong();
+    private volatile boolean closed;
+
+    // Port 0 picks a free port (see getAddress()).
+    public EvaluationWorker(InetSocketAddress bindAddress, Chromosome prototype, FitnessFunction fitnessFunction) {
+        this.prototype = prototype;
+        this.fitnessFunction = fitnessFunction;
+        try {
+            this.server = new ServerSocket();
+            server.bind(bindAddress);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to bind evaluation worker to " + bindAddress, e);
+        }
+    }
+
+    public InetSocketAddress getAddress() {
+        return new InetSocketAddress(server.getInetAddress(), server.getLocalPort());
+    }
+
+    public long getEvaluations() {
+        return evaluations.get();
+    }
+
+    public EvaluationWorker start() {
+        Thread acceptor = new Thread(this::acceptLoop, "ga-evaluation-worker-" + server.getLocalPort());
+        acceptor.setDaemon(true);
+        acceptor.start();
+        return this;
+    }
+
+    // Stops accepting and drops every connection; masters re-dispatch the unanswered batches.
+    @Override
+    public void close() {
+        closed = true;
+        closeQuietly(server);
+        for (Socket socket : connections) {
+            closeQuietly(socket);
+        }
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            try {
+                Socket socket = server.accept();
+                connections.add(socket);
+                Thread handler = new Thread(() -> serve(socket), "ga-evaluation-worker-conn-" + socket.getPort());
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                if (!closed) closeQuietly(server);
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 1 << 16));
+             OutputStream out = new BufferedOutputStream(socket.getOutputStream(), 1 << 16)) {
+            socket.setTcpNoDelay(true);
+            List<Chromosome> scratch = new ArrayList<>();
+            ByteBuffer request = ByteBuffer.allocate(1 << 12);
+            ByteBuffer response = ByteBuffer.allocate(1 << 12);
+
+            while (!closed) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    return;  // master closed the connection
+                }
+                request = Frames.readBody(in, length, request);
+                long batchId = request.getLong();
+                int count = request.getInt();
+
+                try {
+                    while (scratch.size() < count) scratch.add(prototype.clone());
+                    List<Chromosome> batch = scratch.subList(0, count);
+                    for (Chromosome c : batch) {
+                        GenomeCodec.readInto(request, c.getGenes());
+                        c.markGenesChanged();
+                    }
+                    double[] scores = new double[count];
+                    evaluate(batch, scores);
+                    evaluations.addAndGet(count);
+
+                    response = Frames.ensure(response, Frames.HEADER_BYTES + 8 * count);
+                    response.putInt(Frames.HEADER_BYTES - 4 + 8 * count).putLong(batchId).putInt(count);
+                    response.asDoubleBuffer().put(scores);
+                    response.position(response.position() + 8 * count);
+                } catch (RuntimeException e) {
+                    // reported to the master, which fails the run rather than retrying elsewhere
+                    byte[] message = String.valueOf(e).getBytes(StandardCharsets.UTF_8);
+                    response = Frames.ensure(response, Frames.HEADER_BYTES + 4 + message.length);
+                    response.putInt(Frames.HEADER_BYTES + message.length).putLong(batchId).putInt(Frames.ERROR)
+                            .putInt(message.length).put(message);
+                }
+                out.write(response.array(), 0, response.position());
+                out.flush();
+            }
+        } catch (IOException e) {
+            // connection lost; the master re-dispatches whatever was in flight
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    private void evaluate(List<Chromosome> batch, double[] scores) {
+        if (fitnessFunction.isThreadSafe()) {
+            fitnessFunction.evaluateBatch(batch, scores);
+        } else {
+            synchronized (fitnessFunction) {
+                fitnessFunction.evaluateBatch(batch, scores);
+            }
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception ignored) {
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package GeneticAlgorithmLibrary.Distributed;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+
+// Length-prefixed frames shared by master and worker.
+//   request:  int length, long batchId, int count, count x genome (GenomeCodec)
+//   response: int length, long batchId, int count, count x double fitness
+//             or count = ERROR followed by int length + UTF-8 message
+final class Frames {
+
+    static final int ERROR = -1;
+    static final int HEADER_BYTES = 4 + 8 + 4;
+    private static final int MAX_FRAME_BYTES = 1 << 30;
+
+    private Frames() {
+    }
+
+    // Reads the body of a frame whose length prefix has already been read, reusing buffer
+    // when it is large enough.
+    static ByteBuffer readBody(DataInputStream in, int length, ByteBuffer buffer) throws IOException {
+        if (length < HEADER_BYTES - 4 || length > MAX_FRAME_BYTES) {
+            throw new IOException("Corrupt frame length " + length);
+        }
+        if (buffer.capacity() < length) {
+            buffer = ByteBuffer.allocate(Math.max(length, buffer.capacity() * 2));
+        }
+        in.readFully(buffer.array(), 0, length);
+        buffer.clear().limit(length);
+        return buffer;
+    }
+
+    // Returns a buffer with room for a frame of `bytes` (length prefix included), positioned at 0.
+    static ByteBuffer ensure(ByteBuffer buffer, int bytes) {
+        if (buffer.capacity() < bytes) {
+            buffer = ByteBuffer.allocate(Math.max(bytes, buffer.capacity() * 2));
+        }
+        buffer.clear();
+        return buffer;
+    }
+}
@@ -0,0 +1,101 @@
+package GeneticAlgorithmLibrary.Distributed;
+
+import java.nio.ByteBuffer;
+
+
+// Wire format for one genome: byte type, int gene count, then the genes -
+// int[] / long[] / double[] as raw big-endian values, boolean[] packed 8 per byte.
+// Genomes are decoded into an existing gene array (a prototype clone on the worker),
+// so the receiving side does not allocate per genome.
+public final class GenomeCodec {
+
+    static final byte BOOLEAN_GENES = 0;
+    static final byte INT_GENES = 1;
+    static final byte DOUBLE_GENES = 2;
+    static final byte LONG_GENES = 3;
+
+    private GenomeCodec() {
+    }
+
+    public static int encodedSize(Object genes) {
+        return 1 + 4 + payloadBytes(genes);
+    }
+
+    public static void write(ByteBuffer out, Object genes) {
+        if (genes instanceof int[] a) {
+            out.put(INT_GENES).putInt(a.length);
+            out.asIntBuffer().put(a);
+            out.position(out.position() + a.length * 4);
+        } else if (genes instanceof double[] a) {
+            out.put(DOUBLE_GENES).putInt(a.length);
+            out.asDoubleBuffer().put(a);
+            out.position(out.position() + a.length * 8);
+        } else if (genes instanceof long[] a) {
+            out.put(LONG_GENES).putInt(a.length);
+            out.asLongBuffer().put(a);
+            out.position(out.position() + a.length * 8);
+        } else if (genes instanceof boolean[] a) {
+            out.put(BOOLEAN_GENES).putInt(a.length);
+            for (int i = 0; i < a.length; i += 8) {
+                int b = 0;
+                for (int j = 0; j < 8 && i + j < a.length; j++) {
+                    if (a[i + j]) b |= 1 << j;
+                }
+                out.put((byte) b);
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported gene type for distributed evaluation");
+        }
+    }
+
+    // Reads one genome into genes, which must have the encoded type and length.
+    public static void readInto(ByteBuffer in, Object genes) {
+        byte type = in.get();
+        int length = in.getInt();
+        if (type != typeOf(genes) || length != lengthOf(genes)) {
+            throw new IllegalArgumentException("Genome does not match the prototype (type " + type
+                    + ", " + length + " genes)");
+        }
+        if (genes instanceof int[] a) {
+            in.asIntBuffer().get(a);
+            in.position(in.position() + a.length * 4);
+        } else if (genes instanceof double[] a) {
+            in.asDoubleBuffer().get(a);
+            in.position(in.position() + a.length * 8);
+        } else if (genes instanceof long[] a) {
+            in.asLongBuffer().get(a);
+            in.position(in.position() + a.length * 8);
+        } else {
+            boolean[] a = (boolean[]) genes;
+            for (int i = 0; i < a.length; i += 8) {
+                int b = in.get();
+                for (int j = 0; j < 8 && i + j < a.length; j++) {
+                    a[i + j] = (b & (1 << j)) != 0;
+                }
+            }
+        }
+    }
+
+    private static byte typeOf(Object genes) {
+        if (genes instanceof boolean[]) return BOOLEAN_GENES;
+        if (genes instanceof int[]) return INT_GENES;
+        if (genes instanceof double[]) return DOUBLE_GENES;
+        if (genes instanceof long[]) return LONG_GENES;
+        throw new IllegalArgumentException("Unsupported gene type for distributed evaluation");
+    }
+
+    private static int lengthOf(Object genes) {
+        if (genes instanceof int[] a) return a.length;
+        if (genes instanceof double[] a) return a.length;
+        if (genes instanceof long[] a) return a.length;
+        return ((boolean[]) genes).length;
+    }
+
+    private static int payloadBytes(Object genes) {
+        if (genes instanceof int[] a) return 4 * a.length;
+        if (genes instanceof double[] a) return 8 * a.length;
+        if (genes instanceof long[] a) return 8 * a.length;
+        if (genes instanceof boolean[] a) return (a.length + 7) / 8;
+        throw new IllegalArgumentException("Unsupported gene type for distributed evaluation");
+    }
+}
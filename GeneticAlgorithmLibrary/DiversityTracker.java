@@ -0,0 +1,254 @@
+package GeneticAlgorithmLibrary;
+
+import GeneticAlgorithmLibrary.Chromosome.*;
+import GeneticAlgorithmLibrary.Randomness.SplitMix64;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Per-generation diversity of a population, cheap enough to leave on:
+//   - HAMMING: mean normalized Hamming distance over a sample of random pairs
+//   - ENTROPY: mean per-locus allele entropy, normalized to [0, 1]
+//   - UNIQUE:  distinct genomes / population size
+//
+// Every slot keeps its genome as packed symbols (1 bit per locus for binary genomes, otherwise
+// 4 bits: the value modulo 16, exact for integer ranges of up to 16 values, or one of 16 bins
+// for float genes). An individual whose identity and modification count are unchanged is
+// skipped. A changed one is XOR-diffed word by word against its previous symbols, and only the
+// loci that differ update the allele counts and the running entropy sum. That sum is kept in
+// fixed point, so it never drifts and equals a from-scratch recount of the same population
+// (a checkpoint-resumed run reports the same entropy as the uninterrupted one).
+// The cost per generation is O(changed individuals * L / symbols-per-word + changed loci),
+// plus the sampled pairs, which are compared with XOR + bitCount.
+public class DiversityTracker {
+
+    public enum Metric { HAMMING, ENTROPY, UNIQUE }
+
+    private static final double ENTROPY_SCALE = 1 << 24;  // fixed-point unit of the c ln c terms
+
+    private final int sampledPairs;
+    private final SplitMix64 random = new SplitMix64(0x5EED);  // never touches the engine's stream
+
+    // layout, fixed on the first update
+    private int size = -1;
+    private int length;
+    private int alphabet;
+    private int bitsPerSymbol;
+    private int words;
+
+    // slot state
+    private Chromosome[] owners;
+    private long[] modifications;
+    private long[][] symbols;
+    private long[] hashes;
+    private long[] scratch;
+    private long[] sortedHashes;
+
+    // counts[locus * alphabet + symbol]; entropyTerms = sum over all counts of c ln c, in ENTROPY_SCALE units
+    private int[] counts;
+    private long[] cLogC;
+    private long entropyTerms;
+
+    private double hammingDistance = Double.NaN;
+    private double locusEntropy = Double.NaN;
+    private double uniqueRatio = Double.NaN;
+
+    public DiversityTracker() {
+        this(64);
+    }
+
+    public DiversityTracker(int sampledPairs) {
+        if (sampledPairs < 1) {
+            throw new IllegalArgumentException("At least one pair must be sampled");
+        }
+        this.sampledPairs = sampledPairs;
+    }
+
+    public double getHammingDistance() {
+        return hammingDistance;
+    }
+
+    public double getLocusEntropy() {
+        return locusEntropy;
+    }
+
+    public double getUniqueRatio() {
+        return uniqueRatio;
+    }
+
+    public double get(Metric metric) {
+        return switch (metric) {
+            case HAMMING -> hammingDistance;
+            case ENTROPY -> locusEntropy;
+            case UNIQUE -> uniqueRatio;
+        };
+    }
+
+    // Brings the metrics up to date with the population's current individuals.
+    public void update(Population population) {
+        List<Chromosome> individuals = population.getIndividuals();
+        if (individuals.isEmpty()) return;
+        if (individuals.size() != size || individuals.get(0).getLength() != length) {
+            reset(individuals.size(), individuals.get(0));
+        }
+
+        for (int slot = 0; slot < size; slot++) {
+            Chromosome c = individuals.get(slot);
+            if (c == owners[slot] && c.getModificationCount() == modifications[slot]) continue;
+
+            encode(c, scratch);
+            applyDiff(symbols[slot], scratch);
+            long[] previous = symbols[slot];
+            symbols[slot] = scratch;
+            scratch = previous;
+
+            owners[slot] = c;
+            modifications[slot] = c.getModificationCount();
+            hashes[slot] = GenomeHash.hash(c.getGenes());
+        }
+
+        double logAlphabet = Math.log(alphabet);
+        locusEntropy = alphabet < 2 ? 0.0
+                : Math.max(0.0, (length * Math.log(size) - entropyTerms / ENTROPY_SCALE / size) / (length * logAlphabet));
+        uniqueRatio = countUnique() / (double) size;
+        hammingDistance = sampleHamming();
+    }
+
+    private void reset(int size, Chromosome sample) {
+        this.size = size;
+        this.length = sample.getLength();
+        if (sample instanceof BinaryChromosome || sample instanceof PackedBinaryChromosome) {
+            alphabet = 2;
+        } else if (sample instanceof IntegerChromosome ic) {
+            alphabet = (int) Math.min(16, (long) ic.getMaxValue() - ic.getMinValue() + 1);
+        } else {
+            alphabet = 16;
+        }
+        bitsPerSymbol = alphabet == 2 ? 1 : 4;
+        words = (int) (((long) length * bitsPerSymbol + 63) / 64);
+
+        owners = new Chromosome[size];
+        modifications = new long[size];
+        symbols = new long[size][words];
+        hashes = new long[size];
+        scratch = new long[words];
+        sortedHashes = new long[size];
+
+        // every slot starts as "symbol 0 everywhere", which the first diffs correct
+        counts = new int[length * alphabet];
+        for (int locus = 0; locus < length; locus++) counts[locus * alphabet] = size;
+        cLogC = new long[size + 1];
+        for (int c = 1; c <= size; c++) cLogC[c] = Math.round(c * Math.log(c) * ENTROPY_SCALE);
+        entropyTerms = length * cLogC[size];
+    }
+
+    // Packs the chromosome's alleles into out.
+    private void encode(Chromosome c, long[] out) {
+        if (c instanceof PackedBinaryChromosome) {
+            System.arraycopy((long[]) c.getGenes(), 0, out, 0, words);
+            return;
+        }
+        Arrays.fill(out, 0L);
+        Object genes = c.getGenes();
+        if (genes instanceof boolean[] bits) {
+            for (int i = 0; i < length; i++) {
+                if (bits[i]) out[i >>> 6] |= 1L << i;
+            }
+        } else if (genes instanceof int[] values) {
+            int offset = c instanceof IntegerChromosome ic ? ic.getMinValue() : 0;
+            for (int i = 0; i < length; i++) {
+                long symbol = Math.floorMod(values[i] - offset, alphabet);
+                out[i >>> 4] |= symbol << ((i & 15) << 2);
+            }
+        } else if (genes instanceof double[] values) {
+            double min = 0.0, max = 1.0;
+            if (c instanceof FloatChromosome fc) {
+                min = fc.getMinValue();
+                max = fc.getMaxValue();
+            }
+            double scale = max > min ? alphabet / (max - min) : 0.0;
+            for (int i = 0; i < length; i++) {
+                long symbol = Math.max(0, Math.min(alphabet - 1, (int) ((values[i] - min) * scale)));
+                out[i >>> 4] |= symbol << ((i & 15) << 2);
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported gene type for diversity tracking");
+        }
+    }
+
+    // Moves the counts of every locus whose symbol differs from before to after.
+    private void applyDiff(long[] before, long[] after) {
+        for (int w = 0; w < words; w++) {
+            long diff = before[w] ^ after[w];
+            while (diff != 0) {
+                int bit = Long.numberOfTrailingZeros(diff);
+                int locus, from, to;
+                if (bitsPerSymbol == 1) {
+                    locus = (w << 6) + bit;
+                    from = (int) (before[w] >>> bit) & 1;
+                    to = from ^ 1;
+                    diff &= diff - 1;
+                } else {
+                    int shift = bit & ~3;
+                    locus = (w << 4) + (shift >>> 2);
+                    from = (int) (before[w] >>> shift) & 15;
+                    to = (int) (after[w] >>> shift) & 15;
+                    diff &= ~(15L << shift);
+                }
+                int base = locus * alphabet;
+                int cf = counts[base + from]--;
+                int ct = counts[base + to]++;
+                entropyTerms += cLogC[cf - 1] - cLogC[cf] + cLogC[ct + 1] - cLogC[ct];
+            }
+        }
+    }
+
+    private int countUnique() {
+        System.arraycopy(hashes, 0, sortedHashes, 0, size);
+        Arrays.sort(sortedHashes, 0, size);
+        int unique = 1;
+        for (int i = 1; i < size; i++) {
+            if (sortedHashes[i] != sortedHashes[i - 1]) unique++;
+        }
+        return unique;
+    }
+
+    private double sampleHamming() {
+        if (size < 2 || length == 0) return 0.0;
+        long pairs = (long) size * (size - 1) / 2;
+        long total = 0;
+        int samples = 0;
+        if (pairs <= sampledPairs) {
+            for (int a = 0; a < size; a++) {
+                for (int b = a + 1; b < size; b++) {
+                    total += distance(symbols[a], symbols[b]);
+                    samples++;
+                }
+            }
+        } else {
+            for (; samples < sampledPairs; samples++) {
+                int a = random.nextInt(size);
+                int b = random.nextInt(size - 1);
+                if (b >= a) b++;
+                total += distance(symbols[a], symbols[b]);
+            }
+        }
+        return total / ((double) samples * length);
+    }
+
+    // Loci at which two packed genomes differ: popcount of the XOR, with 4-bit symbols first
+    // folded so each differing nibble contributes one bit.
+    private int distance(long[] x, long[] y) {
+        int differing = 0;
+        if (bitsPerSymbol == 1) {
+            for (int w = 0; w < words; w++) differing += Long.bitCount(x[w] ^ y[w]);
+        } else {
+            for (int w = 0; w < words; w++) {
+                long d = x[w] ^ y[w];
+                d = (d | (d >>> 1) | (d >>> 2) | (d >>> 3)) & 0x1111111111111111L;
+                differing += Long.bitCount(d);
+            }
+        }
+        return differing;
+    }
+}
@@ -0,0 +1,164 @@
+package GeneticAlgorithmLibrary;
+
+import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+// Bounded LRU memo of fitness values keyed by genome content.
+// Safe to share between evaluation threads; the fitness function itself runs outside the lock.
+public class FitnessCache {
+
+    private final int capacity;
+    private final LinkedHashMap<GenomeKey, Double> entries;
+    private long hits;
+    private long misses;
+
+    public FitnessCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Cache capacity must be at least 1");
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<GenomeKey, Double> eldest) {
+                return size() > FitnessCache.this.capacity;
+            }
+        };
+    }
+
+    public double getOrEvaluate(Chromosome chromosome, FitnessFunction fitnessFunction) {
+        Object genes = chromosome.getGenes();
+        GenomeKey probe = new GenomeKey(chromosome.getClass(), genes, GenomeHash.hash(genes));
+
+        synchronized (this) {
+            Double cached = entries.get(probe);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+
+        double fitness = fitnessFunction.evaluate(chromosome);
+        GenomeKey key = new GenomeKey(probe.type, GenomeHash.copyGenes(genes), probe.hash);
+        synchronized (this) {
+            entries.put(key, fitness);
+        }
+        return fitness;
+    }
+
+    // Batch form of getOrEvaluate: looks every genome up, scores the misses with a single
+    // evaluateBatch call and stores them. A genome that occurs several times in the batch is
+    // evaluated once; its later copies count as hits, as they would with getOrEvaluate.
+    // Returns the number of distinct genomes actually evaluated.
+    public int getOrEvaluateBatch(List<Chromosome> batch, double[] out, FitnessFunction fitnessFunction) {
+        int size = batch.size();
+        GenomeKey[] probes = new GenomeKey[size];
+        for (int k = 0; k < size; k++) {
+            Object genes = batch.get(k).getGenes();
+            probes[k] = new GenomeKey(batch.get(k).getClass(), genes, GenomeHash.hash(genes));
+        }
+
+        // missed holds one chromosome per distinct uncached genome; scoreOf[k] is the index of
+        // batch[k]'s genome in missed, or -1 when it was found in the cache
+        List<Chromosome> missed = new ArrayList<>();
+        int[] missedAt = new int[size];
+        int[] scoreOf = new int[size];
+        Map<GenomeKey, Integer> pending = new HashMap<>();
+        synchronized (this) {
+            for (int k = 0; k < size; k++) {
+                Double cached = entries.get(probes[k]);
+                if (cached != null) {
+                    hits++;
+                    out[k] = cached;
+                    scoreOf[k] = -1;
+                    continue;
+                }
+                Integer first = pending.putIfAbsent(probes[k], missed.size());
+                if (first != null) {
+                    hits++;
+                    scoreOf[k] = first;
+                } else {
+                    misses++;
+                    scoreOf[k] = missed.size();
+                    missedAt[missed.size()] = k;
+                    missed.add(batch.get(k));
+                }
+            }
+        }
+        if (missed.isEmpty()) return 0;
+
+        double[] scores = new double[missed.size()];
+        fitnessFunction.evaluateBatch(missed, scores);
+        GenomeKey[] keys = new GenomeKey[missed.size()];
+        for (int m = 0; m < keys.length; m++) {
+            GenomeKey probe = probes[missedAt[m]];
+            keys[m] = new GenomeKey(probe.type, GenomeHash.copyGenes(probe.genes), probe.hash);
+        }
+        for (int k = 0; k < size; k++) {
+            if (scoreOf[k] >= 0) out[k] = scores[scoreOf[k]];
+        }
+        synchronized (this) {
+            for (int m = 0; m < keys.length; m++) {
+                entries.put(keys[m], scores[m]);
+            }
+        }
+        return keys.length;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    private static final class GenomeKey {
+        private final Class<?> type;
+        private final Object genes;
+        private final long hash;
+
+        GenomeKey(Class<?> type, Object genes, long hash) {
+            this.type = type;
+            this.genes = genes;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof GenomeKey other)) return false;
+            return hash == other.hash && type == other.type && GenomeHash.equalGenes(genes, other.genes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(hash);
+        }
+    }
+}
@@ -2,8 +2,25 @@ package GeneticAlgorithmLibrary;
 
 import GeneticAlgorithmLibrary.Chromosome.Chromosome;
 
+import java.util.List;
+
 
 public interface FitnessFunction {
 
     double evaluate(Chromosome chromosome);
+
+    // Scores batch.get(k) into out[k]. GAEngine evaluates through this method, so a fitness
+    // function that can do better with the whole batch in view (type dispatch once, shared
+    // scratch buffers, vectorised or native code) only has to override it.
+    default void evaluateBatch(List<Chromosome> batch, double[] out) {
+        for (int k = 0; k < batch.size(); k++) {
+            out[k] = evaluate(batch.get(k));
+        }
+    }
+
+    // Return true only if evaluate() may be called concurrently from several threads
+    // (no shared mutable state). GAEngine fans evaluation out only when this holds.
+    default boolean isThreadSafe() {
+        return false;
+    }
 }
@@ -1,20 +1,30 @@
 package GeneticAlgorithmLibrary;
 
+import GeneticAlgorithmLibrary.Checkpoint.CheckpointWriter;
+import GeneticAlgorithmLibrary.Checkpoint.Snapshot;
 import GeneticAlgorithmLibrary.Chromosome.Chromosome;
 import GeneticAlgorithmLibrary.Selection.SelectionMethod;
 import GeneticAlgorithmLibrary.Crossover.CrossoverMethod;
 import GeneticAlgorithmLibrary.Mutation.MutationMethod;
+import GeneticAlgorithmLibrary.Randomness.RandomContext;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
+import GeneticAlgorithmLibrary.Randomness.SplitMix64;
 import GeneticAlgorithmLibrary.Replacement.ReplacementMethod;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 public class GAEngine {
 
     private final int populationSize;
     private final int generations;
-    private final double crossoverRate;
-    private final double mutationRate;
+    private double crossoverRate;
+    private double mutationRate;
 
     private SelectionMethod selectionMethod;
     private CrossoverMethod crossoverMethod;
@@ -24,7 +34,53 @@ public class GAEngine {
     private final FitnessFunction fitnessFunction;
     private final Chromosome prototype;
     private Population population;
-    private final Random rand = new Random();
+    private Chromosome best;
+    private int generation;
+
+    // Anytime support: stopping criteria and a snapshot other threads may poll
+    private double targetFitness = Double.POSITIVE_INFINITY;
+    private int stallGenerations = 0;   // 0 = no stall detection
+    private int lastImprovementGeneration;
+    private volatile Chromosome bestSnapshot;
+
+    // Optional diversity metrics, refreshed after every generation (null = not tracked)
+    private DiversityTracker diversityTracker;
+    private DiversityTracker.Metric diversityMetric;
+    private double minimumDiversity;
+
+    // Optional per-generation adaptation of the crossover and mutation rates (null = fixed rates)
+    private RateController rateController;
+
+    // Observability
+    private final List<GenerationListener> listeners = new ArrayList<>();
+    private long totalEvaluations;
+
+    // Source for initialization and every operator; installed on the engine thread while it works
+    private RandomSource random = new SplitMix64();
+
+    // Parallel evaluation (null executor = serial)
+    private Executor evaluationExecutor;
+    private int evaluationChunkSize = 64;
+
+    // Optional memo of fitness by genome content (null = disabled)
+    private FitnessCache fitnessCache;
+
+    // Optional memetic stage run on the offspring after mutation (null = disabled)
+    private LocalSearch localSearch;
+    private long localSearchMoves;
+    private long localSearchNanos;
+
+    // Offspring per generation (λ); 0 = whatever the selection method's default select() returns
+    private int offspringCount = 0;
+
+    // Pooled mode: two preallocated generations, swapped every generation
+    private boolean pooled = false;
+    private Population spare;
+
+    // Periodic snapshots of the run (null writer = disabled)
+    private CheckpointWriter checkpointWriter;
+    private int checkpointInterval;
+    private int lastCheckpointGeneration = -1;
 
     public GAEngine(int populationSize, int generations, double crossoverRate,
                     double mutationRate, Chromosome prototype,
@@ -54,23 +110,267 @@ public class GAEngine {
         this.replacementMethod = replacementMethod;
     }
 
+    // Makes runs reproducible: the same seed and configuration give the same run
+    public void setSeed(long seed) {
+        this.random = new SplitMix64(seed);
+    }
+
+    // Used by IslandGAEngine to hand each island its own split of one seeded source
+    public void setRandomSource(RandomSource random) {
+        if (random == null) throw new IllegalArgumentException("random cannot be null");
+        this.random = random;
+    }
+
+    // Evaluate on the given executor (ForkJoinPool, virtual-thread executor, ...).
+    // Only used when the fitness function declares itself thread-safe.
+    public void setEvaluationExecutor(Executor evaluationExecutor) {
+        this.evaluationExecutor = evaluationExecutor;
+    }
+
+    public void setEvaluationChunkSize(int evaluationChunkSize) {
+        if (evaluationChunkSize < 1) {
+            throw new IllegalArgumentException("Evaluation chunk size must be at least 1");
+        }
+        this.evaluationChunkSize = evaluationChunkSize;
+    }
+
+    public void setFitnessCache(FitnessCache fitnessCache) {
+        this.fitnessCache = fitnessCache;
+    }
+
+    public FitnessCache getFitnessCache() {
+        return fitnessCache;
+    }
+
+    // Improve every offspring after mutation. Runs on the evaluation executor (same chunking)
+    // when the local search is thread-safe.
+    public void setLocalSearch(LocalSearch localSearch) {
+        this.localSearch = localSearch;
+    }
+
+    public long getLocalSearchMoves() {
+        return localSearchMoves;
+    }
+
+    public long getLocalSearchNanos() {
+        return localSearchNanos;
+    }
+
+    public void addGenerationListener(GenerationListener listener) {
+        if (listener == null) throw new IllegalArgumentException("listener cannot be null");
+        listeners.add(listener);
+    }
+
+    public void removeGenerationListener(GenerationListener listener) {
+        listeners.remove(listener);
+    }
+
+    // Stop as soon as the best fitness reaches this value
+    public void setTargetFitness(double targetFitness) {
+        this.targetFitness = targetFitness;
+    }
+
+    // Stop after this many generations without improvement of the best fitness (0 = never)
+    public void setStallGenerations(int stallGenerations) {
+        if (stallGenerations < 0) {
+            throw new IllegalArgumentException("Stall generations cannot be negative");
+        }
+        this.stallGenerations = stallGenerations;
+    }
+
+    // Track population diversity; its metrics appear in GenerationStats and can stop the run
+    public void setDiversityTracker(DiversityTracker diversityTracker) {
+        this.diversityTracker = diversityTracker;
+    }
+
+    public DiversityTracker getDiversityTracker() {
+        return diversityTracker;
+    }
+
+    // Stop once the given diversity metric falls below the threshold; installs a tracker if none is set
+    public void setMinimumDiversity(DiversityTracker.Metric metric, double minimum) {
+        if (metric == null) throw new IllegalArgumentException("metric cannot be null");
+        if (diversityTracker == null) diversityTracker = new DiversityTracker();
+        this.diversityMetric = metric;
+        this.minimumDiversity = minimum;
+    }
+
+    public double getCrossoverRate() {
+        return crossoverRate;
+    }
+
+    public void setCrossoverRate(double crossoverRate) {
+        if (crossoverRate < 0 || crossoverRate > 1) {
+            throw new IllegalArgumentException("Crossover rate must be between 0 and 1");
+        }
+        this.crossoverRate = crossoverRate;
+    }
+
+    public double getMutationRate() {
+        return mutationRate;
+    }
+
+    public void setMutationRate(double mutationRate) {
+        if (mutationRate < 0 || mutationRate > 1) {
+            throw new IllegalArgumentException("Mutation rate must be between 0 and 1");
+        }
+        this.mutationRate = mutationRate;
+    }
+
+    // Adapt the rates after every generation (including generation 0), before the listeners run
+    public void setRateController(RateController rateController) {
+        this.rateController = rateController;
+    }
+
+    // Batch breeding: select λ parents at once, breed λ offspring and hand the whole batch
+    // to the replacement method. Use populationSize for a full generational batch.
+    public void setOffspringCount(int offspringCount) {
+        if (offspringCount < 0) {
+            throw new IllegalArgumentException("Offspring count cannot be negative");
+        }
+        this.offspringCount = offspringCount;
+    }
+
+    // Breed a full generation into a preallocated buffer using the operators' in-place API
+    // (selectIndex, crossoverInto, replaceInPlace) so a warm run allocates almost nothing.
+    // Operators that only implement the list-based methods still work through the interfaces'
+    // default in-place methods, which allocate.
+    public void setPooled(boolean pooled) {
+        this.pooled = pooled;
+    }
+
+    // Write a snapshot to file every `interval` generations, in the background.
+    // A run can later be continued from it with resume(file).
+    public void setCheckpointing(Path file, int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Checkpoint interval must be at least 1");
+        }
+        if (checkpointWriter != null) {
+            checkpointWriter.close();
+        }
+        this.checkpointWriter = new CheckpointWriter(file);
+        this.checkpointInterval = interval;
+    }
+
     // --- Population initialization ---
     private void initializePopulation() {
         population = new Population(populationSize);
         for (int i = 0; i < populationSize; i++) {
             Chromosome individual = prototype.clone();
             // Assign a unique seed to each clone to diversify initialization
-            individual.setSeed(rand.nextInt() & 0x7fffffff);
+            individual.setSeed(random.nextLong());
             individual.initialize();
             population.add(individual);
         }
+
+        spare = null;
+        if (pooled) {
+            spare = new Population(populationSize);
+            for (int i = 0; i < populationSize; i++) {
+                spare.add(prototype.clone());
+            }
+        }
     }
 
     // --- Fitness evaluation ---
     private void evaluatePopulation(Population pop) {
-        for (Chromosome c : pop.getIndividuals()) {
-            c.setFitness(fitnessFunction.evaluate(c));
+        List<Chromosome> individuals = pop.getIndividuals();
+        int size = individuals.size();
+
+        if (evaluationExecutor == null || !fitnessFunction.isThreadSafe() || size <= evaluationChunkSize) {
+            totalEvaluations += evaluateRange(individuals, 0, size);
+            return;
+        }
+
+        // Each chunk writes only its own individuals' fitness, so the result does not
+        // depend on scheduling and runs stay reproducible for a given seed.
+        List<CompletableFuture<Integer>> tasks = new ArrayList<>();
+        for (int start = 0; start < size; start += evaluationChunkSize) {
+            int from = start;
+            int to = Math.min(start + evaluationChunkSize, size);
+            tasks.add(CompletableFuture.supplyAsync(() -> evaluateRange(individuals, from, to), evaluationExecutor));
+        }
+        totalEvaluations += joinAll(tasks);
+    }
+
+    private static long joinAll(List<CompletableFuture<Integer>> tasks) {
+        try {
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+            long total = 0;
+            for (CompletableFuture<Integer> task : tasks) {
+                total += task.join();
+            }
+            return total;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // --- Local search ---
+    // Every chunk gets its own split of the engine's source, taken in order on the engine
+    // thread, so the result is the same whether the chunks run serially or in parallel.
+    private void improveOffspring(List<Chromosome> offspring) {
+        if (localSearch == null) return;
+        long started = System.nanoTime();
+        int size = offspring.size();
+        boolean parallel = evaluationExecutor != null && localSearch.isThreadSafe() && size > evaluationChunkSize;
+
+        List<CompletableFuture<Integer>> tasks = new ArrayList<>();
+        for (int start = 0; start < size; start += evaluationChunkSize) {
+            int from = start;
+            int to = Math.min(start + evaluationChunkSize, size);
+            RandomSource chunkRandom = random.split();
+            if (parallel) {
+                tasks.add(CompletableFuture.supplyAsync(() -> improveRange(offspring, from, to, chunkRandom), evaluationExecutor));
+            } else {
+                localSearchMoves += improveRange(offspring, from, to, chunkRandom);
+            }
+        }
+        localSearchMoves += joinAll(tasks);
+        localSearchNanos += System.nanoTime() - started;
+    }
+
+    // Returns the number of improving moves applied.
+    private int improveRange(List<Chromosome> offspring, int from, int to, RandomSource chunkRandom) {
+        RandomSource previous = RandomContext.install(chunkRandom);
+        try {
+            int moves = 0;
+            for (int i = from; i < to; i++) {
+                moves += localSearch.improve(offspring.get(i));
+            }
+            return moves;
+        } finally {
+            RandomContext.install(previous);
+        }
+    }
+
+    // Scores the range with one evaluateBatch call; returns the number of genomes evaluated.
+    private int evaluateRange(List<Chromosome> individuals, int from, int to) {
+        // Unchanged clones (elites, offspring that skipped crossover and mutation) keep their score
+        List<Chromosome> pending = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            Chromosome c = individuals.get(i);
+            if (!c.isFitnessValid()) {
+                pending.add(c);
+            }
+        }
+        if (pending.isEmpty()) return 0;
+
+        double[] scores = new double[pending.size()];
+        int calls;
+        if (fitnessCache != null) {
+            calls = fitnessCache.getOrEvaluateBatch(pending, scores, fitnessFunction);
+        } else {
+            fitnessFunction.evaluateBatch(pending, scores);
+            calls = pending.size();
+        }
+        for (int k = 0; k < scores.length; k++) {
+            pending.get(k).setFitness(scores[k]);
         }
+        return calls;
     }
 
     // --- Helper: build a Population from offspring list ---
@@ -82,56 +382,319 @@ public class GAEngine {
         return newPop;
     }
 
-    // --- Main GA run cycle ---
-    public Chromosome run() {
+    // --- Step-wise control (used by run() and by IslandGAEngine) ---
+    public void initialize() {
+        long started = System.nanoTime();
         if (selectionMethod == null || crossoverMethod == null ||
                 mutationMethod == null || replacementMethod == null) {
             throw new IllegalStateException("All GA components must be set before running.");
         }
 
-        initializePopulation();
+        RandomSource previous = RandomContext.install(random);
+        try {
+            totalEvaluations = 0;
+            localSearchMoves = 0;
+            localSearchNanos = 0;
+            initializePopulation();
+            evaluatePopulation(population);
+            best = population.getBestIndividual().clone();
+            generation = 0;
+            lastImprovementGeneration = 0;
+            lastCheckpointGeneration = -1;
+            bestSnapshot = best.clone();
+            if (diversityTracker != null) diversityTracker.update(population);
+            reportGeneration(System.nanoTime() - started, totalEvaluations);
+        } finally {
+            RandomContext.install(previous);
+        }
+    }
+
+    // Runs one generation: selection, crossover, mutation, replacement, evaluation.
+    public void step() {
+        if (population == null) {
+            throw new IllegalStateException("initialize() must be called before step().");
+        }
+        long started = System.nanoTime();
+        long evaluationsBefore = totalEvaluations;
+        RandomSource previous = RandomContext.install(random);
+        try {
+            if (pooled) {
+                pooledStep();
+            } else {
+                generationalStep();
+            }
+        } finally {
+            RandomContext.install(previous);
+        }
+        if (diversityTracker != null) diversityTracker.update(population);
+        reportGeneration(System.nanoTime() - started, totalEvaluations - evaluationsBefore);
+
+        if (checkpointWriter != null && generation % checkpointInterval == 0) {
+            checkpoint();
+        }
+    }
+
+    // Skipped (returns false) while the previous checkpoint is still being written.
+    private boolean checkpoint() {
+        boolean submitted = checkpointWriter.submit(new Snapshot(generation, lastImprovementGeneration,
+                totalEvaluations, random.getState(), crossoverRate, mutationRate,
+                rateController == null ? new long[0] : rateController.getState(),
+                best, population.getIndividuals()));
+        if (submitted) lastCheckpointGeneration = generation;
+        return submitted;
+    }
+
+    // Replaces the current state with a checkpoint written by setCheckpointing().
+    // The engine must be configured with the same prototype and operators as the original run,
+    // and with the same kind of RateController if it had one; the rates and the controller's
+    // state come from the checkpoint. A DiversityTracker's Hamming distance is sampled with its
+    // own generator, which is not checkpointed; a controller that reads it will not resume exactly.
+    public void restore(Path file) {
+        if (selectionMethod == null || crossoverMethod == null ||
+                mutationMethod == null || replacementMethod == null) {
+            throw new IllegalStateException("All GA components must be set before running.");
+        }
+
+        Snapshot snapshot = Snapshot.load(file, prototype);
+        population = new Population(populationSize);
+        for (Chromosome individual : snapshot.getIndividuals()) {
+            population.add(individual);
+        }
+        spare = null;
+        if (pooled) {
+            spare = new Population(populationSize);
+            for (int i = 0; i < snapshot.getIndividuals().size(); i++) {
+                spare.add(prototype.clone());
+            }
+        }
+
+        best = snapshot.getBest();
+        generation = snapshot.getGeneration();
+        lastCheckpointGeneration = generation;
+        lastImprovementGeneration = snapshot.getLastImprovementGeneration();
+        totalEvaluations = snapshot.getTotalEvaluations();
+        random.setState(snapshot.getRngState());
+        crossoverRate = snapshot.getCrossoverRate();
+        mutationRate = snapshot.getMutationRate();
+        if (rateController != null) {
+            rateController.setState(snapshot.getControllerState());
+        }
+        bestSnapshot = best.clone();
+    }
+
+    private void generationalStep() {
+        // Selection
+        selectionMethod.prepare(population);
+        List<Chromosome> parents = offspringCount > 0
+                ? selectionMethod.select(population, offspringCount)
+                : selectionMethod.select(population);
+
+        // Crossover (pairs may yield one child more than requested for odd λ)
+        List<Chromosome> offspring = crossoverMethod.crossover(parents, crossoverRate);
+        if (offspringCount > 0 && offspring.size() > offspringCount) {
+            offspring = offspring.subList(0, offspringCount);
+        }
+
+        // Mutation
+        mutationMethod.mutate(offspring, mutationRate);
+
+        // Local search
+        improveOffspring(offspring);
+
+
+        // transform offspring into a Population
+        Population offspringPopulation = buildPopulation(offspring);
+
+        // Replacement
+        population = replacementMethod.replace(population, offspringPopulation);
+
+        // Re-evaluate
         evaluatePopulation(population);
 
-        System.out.println("\n=== Initial Population ===");
-        int index = 1;
-        for (Chromosome c : population.getIndividuals()) {
-            System.out.println(index++ + ". " + c.toString());
+        // Track best
+        generation++;
+        Chromosome currentBest = population.getBestIndividual();
+        if (currentBest.getFitness() > best.getFitness()) {
+            best = currentBest.clone();
+            onImprovement();
+        }
+    }
+
+    private void pooledStep() {
+        List<Chromosome> current = population.getIndividuals();
+        List<Chromosome> next = spare.getIndividuals();
+
+        // Selection + crossover straight into the spare generation
+        selectionMethod.prepare(population);
+        int i = 0;
+        for (; i + 1 < populationSize; i += 2) {
+            Chromosome p1 = current.get(selectionMethod.selectIndex(population));
+            Chromosome p2 = current.get(selectionMethod.selectIndex(population));
+            crossoverMethod.crossoverInto(p1, p2, next.get(i), next.get(i + 1), crossoverRate);
+        }
+        if (i < populationSize) {
+            next.get(i).copyFrom(current.get(selectionMethod.selectIndex(population)));
         }
-        System.out.println("===========================\n");
 
-        Chromosome best = population.getBestIndividual().clone();
+        // Mutation (in place), then local search
+        mutationMethod.mutate(next, mutationRate);
+        improveOffspring(next);
 
-        System.out.println("Initial best fitness: " + String.format("%.4f", best.getFitness()));
+        // Replacement: the returned buffer is the new generation, the other one becomes spare
+        Population result = replacementMethod.replaceInPlace(population, spare);
+        if (result == spare) {
+            spare = population;
+        } else if (result != population) {
+            throw new IllegalStateException("replaceInPlace must return one of its arguments");
+        }
+        population = result;
 
-        for (int gen = 1; gen <= generations; gen++) {
-            // Selection
-            List<Chromosome> parents = selectionMethod.select(population);
+        // Re-evaluate
+        evaluatePopulation(population);
 
-            // Crossover
-            List<Chromosome> offspring = crossoverMethod.crossover(parents, crossoverRate);
+        // Track best without allocating (except to publish an improvement)
+        generation++;
+        Chromosome currentBest = population.getBestIndividual();
+        if (currentBest.getFitness() > best.getFitness()) {
+            best.copyFrom(currentBest);
+            onImprovement();
+        }
+    }
 
-            // Mutation
-            mutationMethod.mutate(offspring, mutationRate);
+    private void reportGeneration(long generationNanos, long evaluations) {
+        if (listeners.isEmpty() && rateController == null) return;
 
+        List<Chromosome> individuals = population.getIndividuals();
+        double max = Double.NEGATIVE_INFINITY;
+        double min = Double.POSITIVE_INFINITY;
+        double sum = 0.0;
+        for (int i = 0; i < individuals.size(); i++) {
+            double f = individuals.get(i).getFitness();
+            if (f > max) max = f;
+            if (f < min) min = f;
+            sum += f;
+        }
+        GenerationStats stats = diversityTracker == null
+                ? new GenerationStats(generation, max, sum / individuals.size(), min,
+                        best.getFitness(), generationNanos, evaluations, totalEvaluations)
+                : new GenerationStats(generation, max, sum / individuals.size(), min,
+                        best.getFitness(), generationNanos, evaluations, totalEvaluations,
+                        diversityTracker.getHammingDistance(), diversityTracker.getLocusEntropy(),
+                        diversityTracker.getUniqueRatio());
+        if (rateController != null) {
+            rateController.adapt(stats, this);
+        }
+        for (GenerationListener listener : listeners) {
+            listener.onGeneration(stats);
+        }
+    }
 
-            // transform offspring into a Population
-            Population offspringPopulation = buildPopulation(offspring);
+    public long getTotalEvaluations() {
+        return totalEvaluations;
+    }
 
-            // Replacement
-            population = replacementMethod.replace(population, offspringPopulation);
+    private void onImprovement() {
+        lastImprovementGeneration = generation;
+        bestSnapshot = best.clone();
+    }
 
-            // Re-evaluate
-            evaluatePopulation(population);
+    // True once the target fitness is reached, the run has stalled or diversity has collapsed.
+    public boolean stoppingCriteriaMet() {
+        if (best == null) return false;
+        if (best.getFitness() >= targetFitness) return true;
+        if (diversityMetric != null && diversityTracker.get(diversityMetric) < minimumDiversity) return true;
+        return stallGenerations > 0 && generation - lastImprovementGeneration >= stallGenerations;
+    }
+
+    // Copy of the best individual found so far; safe to call from any thread during a run.
+    public Chromosome bestSoFar() {
+        Chromosome snapshot = bestSnapshot;
+        return snapshot == null ? null : snapshot.clone();
+    }
+
+    public int getLastImprovementGeneration() {
+        return lastImprovementGeneration;
+    }
 
-            // Track best
-            Chromosome currentBest = population.getBestIndividual();
-            if (currentBest.getFitness() > best.getFitness()) {
-                best = currentBest.clone();
+    // Copies of the n fittest individuals, best first.
+    public List<Chromosome> getEliteCopies(int n) {
+        List<Chromosome> individuals = population.getIndividuals();
+        List<Chromosome> elites = new ArrayList<>();
+        for (int index : population.topIndices(n)) {
+            elites.add(individuals.get(index).clone());
+        }
+        return elites;
+    }
+
+    // Replaces the worst individuals with already-evaluated migrants.
+    public void immigrate(List<Chromosome> migrants) {
+        List<Chromosome> individuals = population.getIndividuals();
+        int[] weakest = population.bottomIndices(migrants.size());
+        for (int m = 0; m < migrants.size(); m++) {
+            Chromosome migrant = migrants.get(m);
+            if (m < weakest.length && migrant.getFitness() > individuals.get(weakest[m]).getFitness()) {
+                individuals.get(weakest[m]).copyFrom(migrant);
             }
+            if (migrant.getFitness() > best.getFitness()) {
+                best = migrant.clone();
+                onImprovement();
+            }
+        }
+    }
+
+    public Population getPopulation() {
+        return population;
+    }
+
+    public Chromosome getBest() {
+        return best;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    public int getGenerations() {
+        return generations;
+    }
+
+    // --- Main GA run cycle ---
+    public Chromosome run() {
+        return runLoop(generations, Long.MAX_VALUE);
+    }
 
-            System.out.println("Generation " + gen + " → Best fitness: " + String.format("%.4f", best.getFitness()));
+    // Anytime run: keeps going until the budget is spent, the target fitness is reached or
+    // the run stalls. The configured generation count does not apply here.
+    public Chromosome run(Duration budget) {
+        return runLoop(Integer.MAX_VALUE, budget.toNanos());
+    }
+
+    // Continues a run from a checkpoint up to the configured generation count.
+    public Chromosome resume(Path checkpoint) {
+        long start = System.nanoTime();
+        restore(checkpoint);
+        return loop(generations, Long.MAX_VALUE, start);
+    }
+
+    private Chromosome runLoop(int maxGenerations, long budgetNanos) {
+        long start = System.nanoTime();
+        initialize();
+        return loop(maxGenerations, budgetNanos, start);
+    }
+
+    private Chromosome loop(int maxGenerations, long budgetNanos, long start) {
+        while (generation < maxGenerations && !stoppingCriteriaMet() && System.nanoTime() - start < budgetNanos) {
+            step();
         }
 
+        // the final state is always checkpointed, and complete on disk before returning
+        if (checkpointWriter != null) {
+            checkpointWriter.flush();
+            if (lastCheckpointGeneration != generation) {
+                checkpoint();
+                checkpointWriter.flush();
+            }
+        }
         return best;
     }
 
@@ -0,0 +1,10 @@
+package GeneticAlgorithmLibrary;
+
+
+// Called on the engine thread after initialization (generation 0) and after every generation.
+// Implementations should return quickly; use AsyncLoggingListener for I/O.
+@FunctionalInterface
+public interface GenerationListener {
+
+    void onGeneration(GenerationStats stats);
+}
@@ -0,0 +1,105 @@
+package GeneticAlgorithmLibrary;
+
+// Per-generation summary handed to GenerationListeners. Primitive values only, so
+// producing it costs one pass over the fitness values and no string building.
+public class GenerationStats {
+    private final int generation;
+    private final double bestFitness;
+    private final double meanFitness;
+    private final double worstFitness;
+    private final double bestSoFar;
+    private final long generationNanos;
+    private final long evaluations;
+    private final long totalEvaluations;
+
+    // Diversity metrics; NaN when the engine has no DiversityTracker
+    private final double hammingDistance;
+    private final double locusEntropy;
+    private final double uniqueRatio;
+
+    public GenerationStats(int generation, double bestFitness, double meanFitness, double worstFitness,
+                           double bestSoFar, long generationNanos, long evaluations, long totalEvaluations) {
+        this(generation, bestFitness, meanFitness, worstFitness, bestSoFar, generationNanos, evaluations,
+                totalEvaluations, Double.NaN, Double.NaN, Double.NaN);
+    }
+
+    public GenerationStats(int generation, double bestFitness, double meanFitness, double worstFitness,
+                           double bestSoFar, long generationNanos, long evaluations, long totalEvaluations,
+                           double hammingDistance, double locusEntropy, double uniqueRatio) {
+        this.generation = generation;
+        this.bestFitness = bestFitness;
+        this.meanFitness = meanFitness;
+        this.worstFitness = worstFitness;
+        this.bestSoFar = bestSoFar;
+        this.generationNanos = generationNanos;
+        this.evaluations = evaluations;
+        this.totalEvaluations = totalEvaluations;
+        this.hammingDistance = hammingDistance;
+        this.locusEntropy = locusEntropy;
+        this.uniqueRatio = uniqueRatio;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    // Best / mean / worst fitness of the current population
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    public double getMeanFitness() {
+        return meanFitness;
+    }
+
+    public double getWorstFitness() {
+        return worstFitness;
+    }
+
+    // Best fitness seen in the whole run
+    public double getBestSoFar() {
+        return bestSoFar;
+    }
+
+    public long getGenerationNanos() {
+        return generationNanos;
+    }
+
+    // Fitness function calls made in this generation (cache hits and still-valid individuals excluded)
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    public long getTotalEvaluations() {
+        return totalEvaluations;
+    }
+
+    // Sampled mean pairwise Hamming distance, as a fraction of the chromosome length
+    public double getHammingDistance() {
+        return hammingDistance;
+    }
+
+    // Mean per-locus allele entropy, 0 (converged) to 1 (uniform)
+    public double getLocusEntropy() {
+        return locusEntropy;
+    }
+
+    // Distinct genomes / population size
+    public double getUniqueRatio() {
+        return uniqueRatio;
+    }
+
+    public boolean hasDiversity() {
+        return !Double.isNaN(locusEntropy);
+    }
+
+    @Override
+    public String toString() {
+        String base = String.format("gen=%d best=%.4f mean=%.4f worst=%.4f bestSoFar=%.4f time=%.3fms evals=%d",
+                generation, bestFitness, meanFitness, worstFitness, bestSoFar,
+                generationNanos / 1e6, evaluations);
+        if (!hasDiversity()) return base;
+        return base + String.format(" hamming=%.3f entropy=%.3f unique=%.3f",
+                hammingDistance, locusEntropy, uniqueRatio);
+    }
+}
@@ -0,0 +1,58 @@
+package GeneticAlgorithmLibrary;
+
+import java.util.Arrays;
+
+
+// Content hashing / comparison for the gene arrays returned by Chromosome.getGenes().
+public final class GenomeHash {
+
+    private GenomeHash() {
+    }
+
+    public static long hash(Object genes) {
+        long h = 0x9E3779B97F4A7C15L;
+        if (genes instanceof int[] arr) {
+            for (int g : arr) h = mix(h ^ g);
+        } else if (genes instanceof boolean[] arr) {
+            long word = 0;
+            for (int i = 0; i < arr.length; i++) {
+                if (arr[i]) word |= 1L << (i & 63);
+                if ((i & 63) == 63) {
+                    h = mix(h ^ word);
+                    word = 0;
+                }
+            }
+            h = mix(h ^ word);
+        } else if (genes instanceof double[] arr) {
+            for (double g : arr) h = mix(h ^ Double.doubleToLongBits(g));
+        } else if (genes instanceof long[] arr) {
+            for (long g : arr) h = mix(h ^ g);
+        } else {
+            throw new IllegalArgumentException("unsupported gene array type for hashing");
+        }
+        return h;
+    }
+
+    public static boolean equalGenes(Object a, Object b) {
+        if (a instanceof int[] x && b instanceof int[] y) return Arrays.equals(x, y);
+        if (a instanceof boolean[] x && b instanceof boolean[] y) return Arrays.equals(x, y);
+        if (a instanceof double[] x && b instanceof double[] y) return Arrays.equals(x, y);
+        if (a instanceof long[] x && b instanceof long[] y) return Arrays.equals(x, y);
+        return false;
+    }
+
+    public static Object copyGenes(Object genes) {
+        if (genes instanceof int[] arr) return arr.clone();
+        if (genes instanceof boolean[] arr) return arr.clone();
+        if (genes instanceof double[] arr) return arr.clone();
+        if (genes instanceof long[] arr) return arr.clone();
+        throw new IllegalArgumentException("unsupported gene array type for copying");
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
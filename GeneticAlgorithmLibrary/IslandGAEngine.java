@@ -0,0 +1,176 @@
+package GeneticAlgorithmLibrary;
+
+import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
+import GeneticAlgorithmLibrary.Randomness.SplitMix64;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Island model: every GAEngine evolves its own subpopulation on its own thread.
+// Every migrationInterval generations each island posts copies of its elites to a
+// neighbour's lock-free mailbox; islands never wait for each other.
+// Each island must be configured with its own operator instances.
+// With setSeed() every island gets its own split of one seeded source, so islands never share
+// a generator; each island's stream is reproducible, although the timing of migrant arrival
+// is not.
+public class IslandGAEngine {
+
+    public enum Topology { RING, RANDOM }
+
+    private final List<GAEngine> islands;
+    private final List<ConcurrentLinkedQueue<Chromosome>> mailboxes = new ArrayList<>();
+    private final List<IslandStats> stats = new ArrayList<>();
+    private final AtomicReference<Chromosome> globalBest = new AtomicReference<>();
+
+    private int migrationInterval = 10;
+    private int migrantCount = 2;
+    private Topology topology = Topology.RING;
+    private RandomSource random;       // null = islands keep their own sources
+    private final List<RandomSource> routing = new ArrayList<>();
+
+    public IslandGAEngine(List<GAEngine> islands) {
+        if (islands == null || islands.isEmpty()) {
+            throw new IllegalArgumentException("At least one island is required");
+        }
+        this.islands = new ArrayList<>(islands);
+        for (int i = 0; i < islands.size(); i++) {
+            mailboxes.add(new ConcurrentLinkedQueue<>());
+            stats.add(new IslandStats(i));
+        }
+    }
+
+    // --- Configuration setters ---
+    public void setMigrationInterval(int migrationInterval) {
+        if (migrationInterval < 1) {
+            throw new IllegalArgumentException("Migration interval must be at least 1");
+        }
+        this.migrationInterval = migrationInterval;
+    }
+
+    public void setMigrantCount(int migrantCount) {
+        if (migrantCount < 0) {
+            throw new IllegalArgumentException("Migrant count cannot be negative");
+        }
+        this.migrantCount = migrantCount;
+    }
+
+    public void setTopology(Topology topology) {
+        this.topology = topology;
+    }
+
+    // Seeds every island (and its choice of migration targets) from one source.
+    public void setSeed(long seed) {
+        this.random = new SplitMix64(seed);
+    }
+
+    // --- Thread-safe views ---
+    public Chromosome getGlobalBest() {
+        Chromosome best = globalBest.get();
+        return best == null ? null : best.clone();
+    }
+
+    public IslandStats getIslandStats(int island) {
+        return stats.get(island);
+    }
+
+    public List<IslandStats> getIslandStats() {
+        return List.copyOf(stats);
+    }
+
+    // --- Main run: one thread per island ---
+    public Chromosome run() {
+        RandomSource master = random != null ? random : new SplitMix64();
+        routing.clear();
+        for (GAEngine island : islands) {
+            if (random != null) {
+                island.setRandomSource(master.split());
+            }
+            routing.add(master.split());
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(islands.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < islands.size(); i++) {
+                int index = i;
+                futures.add(pool.submit(() -> runIsland(index)));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Island run interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Island failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        return getGlobalBest();
+    }
+
+    private void runIsland(int index) {
+        GAEngine engine = islands.get(index);
+        IslandStats islandStats = stats.get(index);
+        ConcurrentLinkedQueue<Chromosome> inbox = mailboxes.get(index);
+
+        engine.initialize();
+        publish(engine.getBest());
+        islandStats.update(0, engine.getPopulation(), engine.getBest());
+
+        for (int gen = 1; gen <= engine.getGenerations() && !engine.stoppingCriteriaMet(); gen++) {
+            engine.step();
+
+            // Immigration: take whatever has arrived, never block
+            List<Chromosome> arrived = new ArrayList<>();
+            Chromosome migrant;
+            while ((migrant = inbox.poll()) != null) {
+                arrived.add(migrant);
+            }
+            if (!arrived.isEmpty()) {
+                engine.immigrate(arrived);
+                islandStats.addReceived(arrived.size());
+            }
+
+            // Emigration
+            if (islands.size() > 1 && migrantCount > 0 && gen % migrationInterval == 0) {
+                List<Chromosome> elites = engine.getEliteCopies(migrantCount);
+                mailboxes.get(target(index)).addAll(elites);
+                islandStats.addSent(elites.size());
+            }
+
+            publish(engine.getBest());
+            islandStats.update(gen, engine.getPopulation(), engine.getBest());
+        }
+    }
+
+    private int target(int index) {
+        if (topology == Topology.RING) {
+            return (index + 1) % islands.size();
+        }
+        int other = routing.get(index).nextInt(islands.size() - 1);
+        return other >= index ? other + 1 : other;
+    }
+
+    private void publish(Chromosome candidate) {
+        while (true) {
+            Chromosome current = globalBest.get();
+            if (current != null && current.getFitness() >= candidate.getFitness()) {
+                return;
+            }
+            if (globalBest.compareAndSet(current, candidate.clone())) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package GeneticAlgorithmLibrary;
+
+import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+
+// Live statistics of one island. Written only by the island's own thread,
+// readable from any thread while the run is in progress.
+public class IslandStats {
+    private final int islandIndex;
+    private volatile int generation;
+    private volatile double bestFitness = Double.NEGATIVE_INFINITY;
+    private volatile double meanFitness;
+    private volatile long migrantsSent;
+    private volatile long migrantsReceived;
+
+    public IslandStats(int islandIndex) {
+        this.islandIndex = islandIndex;
+    }
+
+    void update(int generation, Population population, Chromosome best) {
+        double sum = 0.0;
+        for (Chromosome c : population.getIndividuals()) {
+            sum += c.getFitness();
+        }
+        this.meanFitness = population.getSize() == 0 ? 0.0 : sum / population.getSize();
+        this.bestFitness = best.getFitness();
+        this.generation = generation;
+    }
+
+    void addSent(int count) {
+        migrantsSent += count;
+    }
+
+    void addReceived(int count) {
+        migrantsReceived += count;
+    }
+
+    public int getIslandIndex() {
+        return islandIndex;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    public double getMeanFitness() {
+        return meanFitness;
+    }
+
+    public long getMigrantsSent() {
+        return migrantsSent;
+    }
+
+    public long getMigrantsReceived() {
+        return migrantsReceived;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Island %d: gen=%d best=%.4f mean=%.4f sent=%d received=%d",
+                islandIndex, generation, bestFitness, meanFitness, migrantsSent, migrantsReceived);
+    }
+}
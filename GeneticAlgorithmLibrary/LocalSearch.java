@@ -0,0 +1,19 @@
+package GeneticAlgorithmLibrary;
+
+import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+
+
+// Memetic stage: GAEngine hands every offspring to improve() after mutation and before
+// evaluation. Implementations edit the genes in place and invalidate the fitness when they do;
+// random numbers come from RandomContext.current(), which the engine sets per task.
+public interface LocalSearch {
+
+    // Returns the number of improving moves applied.
+    int improve(Chromosome chromosome);
+
+    // Return true only if improve() may run concurrently on different chromosomes.
+    // GAEngine fans the stage out over its evaluation executor only when this holds.
+    default boolean isThreadSafe() {
+        return false;
+    }
+}
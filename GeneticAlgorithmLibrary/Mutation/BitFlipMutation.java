@@ -2,6 +2,9 @@ package GeneticAlgorithmLibrary.Mutation;
 
 import GeneticAlgorithmLibrary.Chromosome.BinaryChromosome;
 import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+import GeneticAlgorithmLibrary.Chromosome.PackedBinaryChromosome;
+import GeneticAlgorithmLibrary.Randomness.RandomContext;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
 
 import java.util.List;
 
@@ -10,19 +13,54 @@ public class BitFlipMutation implements MutationMethod {
 
     @Override
     public void mutate(List<Chromosome> chromosomes, double mutationRate) {
+        RandomSource random = RandomContext.current();
         for (Chromosome chromosome : chromosomes) {
             if (chromosome instanceof BinaryChromosome) {
                 BinaryChromosome binary = (BinaryChromosome) chromosome;
                 boolean[] genes = (boolean[]) binary.getGenes();
+                boolean changed = false;
                 for (int i = 0; i < binary.getLength(); i++) {
-                    if (Math.random() < mutationRate) {
+                    if (random.nextDouble() < mutationRate) {
                         genes[i] = !genes[i];
+                        changed = true;
                     }
                 }
-                binary.setGenes(genes);
+                if (changed) {
+                    binary.setGenes(genes);
+                }
+            } else if (chromosome instanceof PackedBinaryChromosome packed) {
+                mutatePacked(packed, mutationRate);
             }
         }
     }
+
+    // Jumps straight to the next flipped bit (geometric gaps) instead of drawing once per bit.
+    private void mutatePacked(PackedBinaryChromosome chromosome, double mutationRate) {
+        RandomSource random = RandomContext.current();
+        if (mutationRate <= 0) return;
+        long[] words = (long[]) chromosome.getGenes();
+        int length = chromosome.getLength();
+
+        if (mutationRate >= 1) {
+            for (int w = 0; w < words.length; w++) words[w] = ~words[w];
+            words[words.length - 1] &= PackedBinaryChromosome.tailMask(length);
+            chromosome.markGenesChanged();
+            return;
+        }
+
+        double logKeep = Math.log(1.0 - mutationRate);
+        long pos = (long) (Math.log(1.0 - random.nextDouble()) / logKeep);
+        boolean changed = false;
+        while (pos < length) {
+            int i = (int) pos;
+            words[i >>> 6] ^= 1L << i;
+            changed = true;
+            pos += 1 + (long) (Math.log(1.0 - random.nextDouble()) / logKeep);
+        }
+        if (changed) {
+            chromosome.markGenesChanged();
+        }
+    }
 }
 
 
@@ -2,6 +2,8 @@ package GeneticAlgorithmLibrary.Mutation;
 
 import GeneticAlgorithmLibrary.Chromosome.Chromosome;
 import GeneticAlgorithmLibrary.Chromosome.FloatChromosome;
+import GeneticAlgorithmLibrary.Randomness.RandomContext;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
 
 import java.util.List;
 
@@ -20,6 +22,7 @@ public class FloatUniformMutation implements MutationMethod {
 
     @Override
     public void mutate(List<Chromosome> chromosomes, double mutationRate) {
+        RandomSource random = RandomContext.current();
         for (Chromosome chromosome : chromosomes) {
             if (!(chromosome instanceof FloatChromosome))
                 continue;
@@ -29,15 +32,19 @@ public class FloatUniformMutation implements MutationMethod {
             double min = flt.getMinValue();
             double max = flt.getMaxValue();
             double maxStep = (max - min) * noiseScale;
+            boolean changed = false;
 
             for (int i = 0; i < genes.length; i++) {
-                if (Math.random() < mutationRate) {
-                    double step = (Math.random() * 2 - 1) * maxStep; 
+                if (random.nextDouble() < mutationRate) {
+                    double step = (random.nextDouble() * 2 - 1) * maxStep; 
                     genes[i] = Math.max(min, Math.min(max, genes[i] + step));
+                    changed = true;
                 }
             }
 
-            flt.setGenes(genes);
+            if (changed) {
+                flt.setGenes(genes);
+            }
         }
     }
 }
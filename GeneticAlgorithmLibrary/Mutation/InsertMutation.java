@@ -0,0 +1,30 @@
+package GeneticAlgorithmLibrary.Mutation;
+
+import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+import GeneticAlgorithmLibrary.Chromosome.PermutationChromosome;
+import GeneticAlgorithmLibrary.Randomness.RandomContext;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
+
+import java.util.List;
+
+
+// Each position's gene is, with probability mutationRate, removed and reinserted at a random
+// position (the genes in between shift by one). O(distance) per move.
+public class InsertMutation implements MutationMethod {
+
+    @Override
+    public void mutate(List<Chromosome> chromosomes, double mutationRate) {
+        RandomSource random = RandomContext.current();
+        for (Chromosome chromosome : chromosomes) {
+            if (!(chromosome instanceof PermutationChromosome permutation))
+                continue;
+
+            int n = permutation.getLength();
+            for (int i = 0; i < n; i++) {
+                if (random.nextDouble() < mutationRate) {
+                    permutation.move(i, random.nextInt(n));
+                }
+            }
+        }
+    }
+}
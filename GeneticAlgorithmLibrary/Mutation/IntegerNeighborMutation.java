@@ -2,32 +2,50 @@ package GeneticAlgorithmLibrary.Mutation;
 
 import GeneticAlgorithmLibrary.Chromosome.Chromosome;
 import GeneticAlgorithmLibrary.Chromosome.IntegerChromosome;
+import GeneticAlgorithmLibrary.PackedPopulation;
+import GeneticAlgorithmLibrary.Randomness.RandomContext;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
 
 import java.util.List;
 
 
-public class IntegerNeighborMutation implements MutationMethod {
+public class IntegerNeighborMutation implements MutationMethod, PackedMutationMethod {
 
     @Override
     public void mutate(List<Chromosome> chromosomes, double mutationRate) {
+        RandomSource random = RandomContext.current();
         for (Chromosome chromosome : chromosomes) {
 
             if (!(chromosome instanceof IntegerChromosome))
                 continue;
 
             IntegerChromosome intChr = (IntegerChromosome) chromosome;
-            int[] genes = (int[]) intChr.getGenes();
             int min = intChr.getMinValue();
             int max = intChr.getMaxValue();
 
-            for (int i = 0; i < genes.length; i++) {
-                if (Math.random() < mutationRate) {
-                    int change = Math.random() < 0.5 ? -1 : 1;
-                    genes[i] = Math.max(min, Math.min(max, genes[i] + change));
+            // setGene keeps the change log up to date for incremental fitness functions
+            for (int i = 0; i < intChr.getLength(); i++) {
+                if (random.nextDouble() < mutationRate) {
+                    int change = random.nextDouble() < 0.5 ? -1 : 1;
+                    intChr.setGene(i, Math.max(min, Math.min(max, intChr.getGene(i) + change)));
                 }
             }
+        }
+    }
 
-            intChr.setGenes(genes);
+    @Override
+    public void mutate(PackedPopulation population, int row, double mutationRate) {
+        RandomSource random = RandomContext.current();
+        int[] genes = population.getGenes();
+        int min = population.getMinValue();
+        int max = population.getMaxValue();
+        int base = population.offset(row);
+
+        for (int i = base; i < base + population.getLength(); i++) {
+            if (random.nextDouble() < mutationRate) {
+                int change = random.nextDouble() < 0.5 ? -1 : 1;
+                genes[i] = Math.max(min, Math.min(max, genes[i] + change));
+            }
         }
     }
 }
@@ -0,0 +1,30 @@
+package GeneticAlgorithmLibrary.Mutation;
+
+import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+import GeneticAlgorithmLibrary.Chromosome.PermutationChromosome;
+import GeneticAlgorithmLibrary.Randomness.RandomContext;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
+
+import java.util.List;
+
+
+// With probability mutationRate per position, the segment between that position and a random
+// other one is reversed (2-opt style move). O(segment length) per inversion.
+public class InversionMutation implements MutationMethod {
+
+    @Override
+    public void mutate(List<Chromosome> chromosomes, double mutationRate) {
+        RandomSource random = RandomContext.current();
+        for (Chromosome chromosome : chromosomes) {
+            if (!(chromosome instanceof PermutationChromosome permutation))
+                continue;
+
+            int n = permutation.getLength();
+            for (int i = 0; i < n; i++) {
+                if (random.nextDouble() < mutationRate) {
+                    permutation.reverse(i, random.nextInt(n));
+                }
+            }
+        }
+    }
+}
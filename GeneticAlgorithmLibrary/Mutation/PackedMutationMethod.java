@@ -0,0 +1,9 @@
+package GeneticAlgorithmLibrary.Mutation;
+
+import GeneticAlgorithmLibrary.PackedPopulation;
+
+
+public interface PackedMutationMethod {
+
+    void mutate(PackedPopulation population, int row, double mutationRate);
+}
@@ -0,0 +1,29 @@
+package GeneticAlgorithmLibrary.Mutation;
+
+import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+import GeneticAlgorithmLibrary.Chromosome.PermutationChromosome;
+import GeneticAlgorithmLibrary.Randomness.RandomContext;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
+
+import java.util.List;
+
+
+// Each position is swapped with a random other position with probability mutationRate. O(1) per swap.
+public class SwapMutation implements MutationMethod {
+
+    @Override
+    public void mutate(List<Chromosome> chromosomes, double mutationRate) {
+        RandomSource random = RandomContext.current();
+        for (Chromosome chromosome : chromosomes) {
+            if (!(chromosome instanceof PermutationChromosome permutation))
+                continue;
+
+            int n = permutation.getLength();
+            for (int i = 0; i < n; i++) {
+                if (random.nextDouble() < mutationRate) {
+                    permutation.swap(i, random.nextInt(n));
+                }
+            }
+        }
+    }
+}
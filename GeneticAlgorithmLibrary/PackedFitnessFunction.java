@@ -0,0 +1,16 @@
+package GeneticAlgorithmLibrary;
+
+
+public interface PackedFitnessFunction {
+
+    // Score the genome stored in genes[offset .. offset + length).
+    double evaluate(int[] genes, int offset, int length);
+
+    default void evaluateAll(PackedPopulation population) {
+        int[] genes = population.getGenes();
+        int length = population.getLength();
+        for (int row = 0; row < population.getSize(); row++) {
+            population.setFitness(row, evaluate(genes, population.offset(row), length));
+        }
+    }
+}
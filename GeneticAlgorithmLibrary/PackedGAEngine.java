@@ -0,0 +1,180 @@
+package GeneticAlgorithmLibrary;
+
+import GeneticAlgorithmLibrary.Chromosome.IntegerChromosome;
+import GeneticAlgorithmLibrary.Crossover.PackedCrossoverMethod;
+import GeneticAlgorithmLibrary.Mutation.PackedMutationMethod;
+import GeneticAlgorithmLibrary.Randomness.RandomContext;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
+import GeneticAlgorithmLibrary.Randomness.SplitMix64;
+import GeneticAlgorithmLibrary.Selection.PackedSelectionMethod;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Generational GA over PackedPopulation: two preallocated buffers are swapped every
+// generation, so the loop creates no per-individual objects.
+public class PackedGAEngine {
+
+    private final int populationSize;
+    private final int generations;
+    private final double crossoverRate;
+    private final double mutationRate;
+    private final int chromosomeLength;
+    private final int minValue;
+    private final int maxValue;
+
+    private PackedSelectionMethod selectionMethod;
+    private PackedCrossoverMethod crossoverMethod;
+    private PackedMutationMethod mutationMethod;
+    private boolean elitism = true;
+
+    private final PackedFitnessFunction fitnessFunction;
+    private PackedPopulation population;
+    private PackedPopulation offspring;
+    private RandomSource random = new SplitMix64();
+    private final List<GenerationListener> listeners = new ArrayList<>();
+
+    public PackedGAEngine(int populationSize, int generations, double crossoverRate,
+                          double mutationRate, int chromosomeLength, int minValue, int maxValue,
+                          PackedFitnessFunction fitnessFunction) {
+        this.populationSize = populationSize;
+        this.generations = generations;
+        this.crossoverRate = crossoverRate;
+        this.mutationRate = mutationRate;
+        this.chromosomeLength = chromosomeLength;
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.fitnessFunction = fitnessFunction;
+    }
+
+    // --- Configuration setters ---
+    public void setSelectionMethod(PackedSelectionMethod selectionMethod) {
+        this.selectionMethod = selectionMethod;
+    }
+
+    public void setCrossoverMethod(PackedCrossoverMethod crossoverMethod) {
+        this.crossoverMethod = crossoverMethod;
+    }
+
+    public void setMutationMethod(PackedMutationMethod mutationMethod) {
+        this.mutationMethod = mutationMethod;
+    }
+
+    // Makes runs reproducible: initialization and all operators draw from this seed
+    public void setSeed(long seed) {
+        this.random = new SplitMix64(seed);
+    }
+
+    // Carry the best individual over unchanged (default: on)
+    public void setElitism(boolean elitism) {
+        this.elitism = elitism;
+    }
+
+    public void addGenerationListener(GenerationListener listener) {
+        if (listener == null) throw new IllegalArgumentException("listener cannot be null");
+        listeners.add(listener);
+    }
+
+    public PackedPopulation getPopulation() {
+        return population;
+    }
+
+    // --- Main GA run cycle ---
+    public IntegerChromosome run() {
+        if (selectionMethod == null || crossoverMethod == null || mutationMethod == null) {
+            throw new IllegalStateException("All GA components must be set before running.");
+        }
+
+        // operators draw from the engine's source while the run is on this thread
+        RandomSource previous = RandomContext.install(random);
+        try {
+            return evolve();
+        } finally {
+            RandomContext.install(previous);
+        }
+    }
+
+    private IntegerChromosome evolve() {
+
+        long started = System.nanoTime();
+        population = new PackedPopulation(populationSize, chromosomeLength, minValue, maxValue);
+        offspring = new PackedPopulation(populationSize, chromosomeLength, minValue, maxValue);
+        population.initialize(random);
+        fitnessFunction.evaluateAll(population);
+
+        int[] bestGenes = new int[chromosomeLength];
+        int bestRow = population.getBestIndex();
+        double bestFitness = population.getFitness(bestRow);
+        System.arraycopy(population.getGenes(), population.offset(bestRow), bestGenes, 0, chromosomeLength);
+
+        notifyListeners(0, bestFitness, System.nanoTime() - started);
+
+        for (int gen = 1; gen <= generations; gen++) {
+            started = System.nanoTime();
+            int next = 0;
+            if (elitism) {
+                offspring.copyRow(population, population.getBestIndex(), next++);
+            }
+            int firstChild = next;
+
+            // Selection + crossover straight into the offspring buffer
+            selectionMethod.prepare(population);
+            while (next + 1 < populationSize) {
+                int p1 = selectionMethod.selectIndex(population);
+                int p2 = selectionMethod.selectIndex(population);
+                crossoverMethod.crossover(population, p1, p2, offspring, next, next + 1, crossoverRate);
+                next += 2;
+            }
+            if (next < populationSize) {
+                offspring.copyRow(population, selectionMethod.selectIndex(population), next);
+            }
+
+            // Mutation
+            for (int row = firstChild; row < populationSize; row++) {
+                mutationMethod.mutate(offspring, row, mutationRate);
+            }
+
+            // Swap buffers
+            PackedPopulation tmp = population;
+            population = offspring;
+            offspring = tmp;
+
+            // Re-evaluate
+            fitnessFunction.evaluateAll(population);
+
+            // Track best
+            int currentBest = population.getBestIndex();
+            if (population.getFitness(currentBest) > bestFitness) {
+                bestFitness = population.getFitness(currentBest);
+                System.arraycopy(population.getGenes(), population.offset(currentBest), bestGenes, 0, chromosomeLength);
+            }
+
+            notifyListeners(gen, bestFitness, System.nanoTime() - started);
+        }
+
+        IntegerChromosome best = new IntegerChromosome(chromosomeLength, minValue, maxValue, 0);
+        best.setGenes(bestGenes);
+        best.setFitness(bestFitness);
+        return best;
+    }
+
+    private void notifyListeners(int generation, double bestSoFar, long generationNanos) {
+        if (listeners.isEmpty()) return;
+
+        double[] fitness = population.getFitnessValues();
+        double max = Double.NEGATIVE_INFINITY;
+        double min = Double.POSITIVE_INFINITY;
+        double sum = 0.0;
+        for (double f : fitness) {
+            if (f > max) max = f;
+            if (f < min) min = f;
+            sum += f;
+        }
+        long evaluations = populationSize;
+        GenerationStats stats = new GenerationStats(generation, max, sum / fitness.length, min, bestSoFar,
+                generationNanos, evaluations, evaluations * (generation + 1L));
+        for (GenerationListener listener : listeners) {
+            listener.onGeneration(stats);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package GeneticAlgorithmLibrary;
+
+import GeneticAlgorithmLibrary.Chromosome.IntegerChromosome;
+import GeneticAlgorithmLibrary.Randomness.SplitMix64;
+
+import java.util.random.RandomGenerator;
+
+
+// Structure-of-arrays population for integer genomes: all genes live in one int[]
+// (row i occupies [i * length, (i + 1) * length)) and fitness in a parallel double[].
+public class PackedPopulation {
+    private final int size;
+    private final int length;
+    private final int minValue;
+    private final int maxValue;
+    private final int[] genes;
+    private final double[] fitness;
+
+    public PackedPopulation(int size, int length, int minValue, int maxValue) {
+        if (size < 1 || length < 1) {
+            throw new IllegalArgumentException("Size and length must be positive");
+        }
+        if (minValue > maxValue) {
+            throw new IllegalArgumentException("MinValue must be less than or equal to MaxValue");
+        }
+        if ((long) size * length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("size * length exceeds the maximum array length");
+        }
+        this.size = size;
+        this.length = length;
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.genes = new int[size * length];
+        this.fitness = new double[size];
+    }
+
+    // Same per-individual scheme as IntegerChromosome.initialize() (Chromosome.nextRandom)
+    public void initialize(RandomGenerator rand) {
+        int range = maxValue - minValue + 1;
+        for (int row = 0; row < size; row++) {
+            long seed = rand.nextLong();
+            int base = row * length;
+            for (int i = 0; i < length; i++) {
+                seed += SplitMix64.GOLDEN_GAMMA;
+                genes[base + i] = minValue + (int) (((SplitMix64.mix64(seed) >>> 32) * range) >>> 32);
+            }
+            fitness[row] = 0.0;
+        }
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public int getMinValue() {
+        return minValue;
+    }
+
+    public int getMaxValue() {
+        return maxValue;
+    }
+
+    // Raw gene storage; use offset(row) to find an individual.
+    public int[] getGenes() {
+        return genes;
+    }
+
+    public double[] getFitnessValues() {
+        return fitness;
+    }
+
+    public int offset(int row) {
+        return row * length;
+    }
+
+    public int getGene(int row, int index) {
+        return genes[row * length + index];
+    }
+
+    public void setGene(int row, int index, int value) {
+        genes[row * length + index] = value;
+    }
+
+    public double getFitness(int row) {
+        return fitness[row];
+    }
+
+    public void setFitness(int row, double value) {
+        fitness[row] = value;
+    }
+
+    public void copyRow(PackedPopulation source, int sourceRow, int targetRow) {
+        if (source.length != length) {
+            throw new IllegalArgumentException("Genome length mismatch");
+        }
+        System.arraycopy(source.genes, sourceRow * length, genes, targetRow * length, length);
+        fitness[targetRow] = source.fitness[sourceRow];
+    }
+
+    public int getBestIndex() {
+        int best = 0;
+        for (int i = 1; i < size; i++) {
+            if (fitness[i] > fitness[best]) best = i;
+        }
+        return best;
+    }
+
+    public int getWorstIndex() {
+        int worst = 0;
+        for (int i = 1; i < size; i++) {
+            if (fitness[i] < fitness[worst]) worst = i;
+        }
+        return worst;
+    }
+
+    // Materialise one row as a regular chromosome (e.g. to report the result).
+    public IntegerChromosome toChromosome(int row) {
+        IntegerChromosome chromosome = new IntegerChromosome(length, minValue, maxValue, 0);
+        int[] rowGenes = new int[length];
+        System.arraycopy(genes, row * length, rowGenes, 0, length);
+        chromosome.setGenes(rowGenes);
+        chromosome.setFitness(fitness[row]);
+        return chromosome;
+    }
+}
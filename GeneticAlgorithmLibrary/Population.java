@@ -10,6 +10,15 @@ public class Population {
     private List<Chromosome> individuals;
     private int size;
 
+    // Scratch buffers for the partial-order queries below, per thread so that concurrent
+    // queries (async selection on a shared population) do not overwrite each other
+    private static final ThreadLocal<OrderScratch> ORDER_SCRATCH = ThreadLocal.withInitial(OrderScratch::new);
+
+    private static final class OrderScratch {
+        int[] order = new int[0];
+        double[] keys = new double[0];
+    }
+
 
     public Population(int size) {
         this.size = size;
@@ -70,4 +79,104 @@ public class Population {
         individuals.addAll(newIndividuals);
     }
 
+
+    // Indices of the k fittest individuals, best first.
+    // Quickselect + sorting only the selected part: O(N + k log k) instead of a full sort.
+    public int[] topIndices(int k) {
+        return partialOrder(k, false);
+    }
+
+    // Indices of the k least fit individuals, worst first.
+    public int[] bottomIndices(int k) {
+        return partialOrder(k, true);
+    }
+
+    // All indices, best first (a full O(N log N) ranking).
+    public int[] rankedIndices() {
+        return partialOrder(individuals.size(), false);
+    }
+
+    private int[] partialOrder(int k, boolean ascending) {
+        int n = individuals.size();
+        k = Math.max(0, Math.min(k, n));
+        if (k == 0) return new int[0];
+
+        OrderScratch scratch = ORDER_SCRATCH.get();
+        if (scratch.order.length < n) {
+            scratch.order = new int[n];
+            scratch.keys = new double[n];
+        }
+        int[] idx = scratch.order;
+        double[] key = scratch.keys;
+        // keys are ordered largest-first, so negate for the ascending (worst-first) query
+        for (int i = 0; i < n; i++) {
+            idx[i] = i;
+            double f = individuals.get(i).getFitness();
+            key[i] = ascending ? -f : f;
+        }
+
+        if (k < n) {
+            quickselect(idx, key, 0, n - 1, k);
+        }
+        sortDescending(idx, key, 0, k - 1);
+
+        int[] result = new int[k];
+        System.arraycopy(idx, 0, result, 0, k);
+        return result;
+    }
+
+    // Rearranges idx so that idx[0..k) hold the k largest keys (in any order).
+    private static void quickselect(int[] idx, double[] key, int lo, int hi, int k) {
+        int[] bounds = new int[2];
+        while (lo < hi) {
+            partition(idx, key, lo, hi, bounds);
+            if (k <= bounds[0]) hi = bounds[0] - 1;
+            else if (k > bounds[1] + 1) lo = bounds[1] + 1;
+            else return;
+        }
+    }
+
+    // Three-way partition around a middle pivot: larger keys first, then keys equal to the pivot
+    // (idx[bounds[0]..bounds[1]]), then smaller keys. Keeps runs of equal fitness linear.
+    private static void partition(int[] idx, double[] key, int lo, int hi, int[] bounds) {
+        double pivot = key[idx[(lo + hi) >>> 1]];
+        int gt = lo, i = lo, lt = hi;
+        while (i <= lt) {
+            double v = key[idx[i]];
+            if (v > pivot) swap(idx, gt++, i++);
+            else if (v < pivot) swap(idx, i, lt--);
+            else i++;
+        }
+        bounds[0] = gt;
+        bounds[1] = lt;
+    }
+
+    private static void sortDescending(int[] idx, double[] key, int lo, int hi) {
+        int[] bounds = new int[2];
+        while (hi - lo > 16) {
+            partition(idx, key, lo, hi, bounds);
+            // recurse into the smaller side to bound stack depth
+            if (bounds[0] - lo < hi - bounds[1]) {
+                sortDescending(idx, key, lo, bounds[0] - 1);
+                lo = bounds[1] + 1;
+            } else {
+                sortDescending(idx, key, bounds[1] + 1, hi);
+                hi = bounds[0] - 1;
+            }
+        }
+        for (int i = lo + 1; i <= hi; i++) {
+            int v = idx[i];
+            int j = i - 1;
+            while (j >= lo && key[idx[j]] < key[v]) {
+                idx[j + 1] = idx[j];
+                j--;
+            }
+            idx[j + 1] = v;
+        }
+    }
+
+    private static void swap(int[] a, int i, int j) {
+        int t = a[i]; a[i] = a[j]; a[j] = t;
+    }
+
 }
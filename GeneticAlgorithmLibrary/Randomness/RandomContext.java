@@ -0,0 +1,27 @@
+package GeneticAlgorithmLibrary.Randomness;
+
+// The RandomSource operators draw from on the current thread.
+// Engines install their own (split) source around the work they run on a thread; code running
+// outside an engine gets a private unseeded source per thread, so there is never contention.
+public final class RandomContext {
+
+    private static final ThreadLocal<RandomSource> CURRENT = ThreadLocal.withInitial(SplitMix64::new);
+
+    private RandomContext() {
+    }
+
+    public static RandomSource current() {
+        return CURRENT.get();
+    }
+
+    // Installs source for the calling thread and returns the one it replaces,
+    // which the caller should reinstall when done (try/finally).
+    public static RandomSource install(RandomSource source) {
+        if (source == null) {
+            throw new IllegalArgumentException("source cannot be null");
+        }
+        RandomSource previous = CURRENT.get();
+        CURRENT.set(source);
+        return previous;
+    }
+}
@@ -0,0 +1,17 @@
+package GeneticAlgorithmLibrary.Randomness;
+
+import java.util.random.RandomGenerator;
+
+// Random numbers for the GA operators. Sources are split rather than shared: every thread,
+// island or worker gets its own child via split(), so parallel runs need no synchronization
+// and a seeded run draws exactly the same numbers each time.
+public interface RandomSource extends RandomGenerator {
+
+    // A new, statistically independent source; advances this one.
+    RandomSource split();
+
+    // Complete internal state, for checkpoints.
+    long[] getState();
+
+    void setState(long[] state);
+}
@@ -0,0 +1,75 @@
+package GeneticAlgorithmLibrary.Randomness;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// SplitMix64, the algorithm behind java.util.SplittableRandom, with its state exposed so
+// it can be checkpointed (SplittableRandom keeps it private and is not Serializable).
+// Not thread-safe: split() a source per thread instead of sharing one.
+public class SplitMix64 implements RandomSource {
+
+    public static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    // Seeds for unseeded sources: distinct per instance, different from run to run
+    private static final AtomicLong defaultSeeds = new AtomicLong(mix64(System.currentTimeMillis()) ^ mix64(System.nanoTime()));
+
+    private long seed;
+    private long gamma;  // always odd
+
+    public SplitMix64() {
+        this(mix64(defaultSeeds.getAndAdd(2 * GOLDEN_GAMMA)));
+    }
+
+    public SplitMix64(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private SplitMix64(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    @Override
+    public long nextLong() {
+        return mix64(seed += gamma);
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (mix64(seed += gamma) >>> 32);
+    }
+
+    @Override
+    public RandomSource split() {
+        return new SplitMix64(nextLong(), mixGamma(seed += gamma));
+    }
+
+    @Override
+    public long[] getState() {
+        return new long[] { seed, gamma };
+    }
+
+    @Override
+    public void setState(long[] state) {
+        if (state == null || state.length != 2 || (state[1] & 1L) == 0) {
+            throw new IllegalArgumentException("Not a SplitMix64 state");
+        }
+        this.seed = state[0];
+        this.gamma = state[1];
+    }
+
+    // Stafford's variant 13 finalizer; a good 64-bit hash on its own.
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    // Odd gamma with enough bit transitions, as in SplittableRandom
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int transitions = Long.bitCount(z ^ (z >>> 1));
+        return transitions < 24 ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
@@ -0,0 +1,23 @@
+package GeneticAlgorithmLibrary;
+
+
+// Adaptive parameter control: GAEngine calls adapt() on the engine thread after initialization
+// (generation 0) and after every generation, and the rates it sets through
+// engine.setCrossoverRate / setMutationRate apply to the next generation.
+// Decisions should depend only on the fitness and diversity values in the stats (not on timings)
+// so that seeded runs repeat exactly.
+@FunctionalInterface
+public interface RateController {
+
+    void adapt(GenerationStats stats, GAEngine engine);
+
+    // Everything adapt() remembers between generations, for checkpoints. A controller that keeps
+    // no such state can leave both as they are; one that does must implement both, or a resumed
+    // run will not repeat the uninterrupted one.
+    default long[] getState() {
+        return new long[0];
+    }
+
+    default void setState(long[] state) {
+    }
+}
@@ -0,0 +1,141 @@
+package GeneticAlgorithmLibrary.Replacement;
+
+import GeneticAlgorithmLibrary.GenomeHash;
+import GeneticAlgorithmLibrary.Population;
+import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+import GeneticAlgorithmLibrary.Mutation.MutationMethod;
+
+import java.util.Arrays;
+import java.util.List;
+
+
+// Wraps any replacement method and removes clones from the generation it returns, before the
+// engine evaluates it. The genomes go into an open-addressing hash set (linear probing over
+// GenomeHash values, genes compared on a hash match). Already-evaluated individuals are inserted
+// first, so an offspring that copies a survivor is the one treated as the duplicate.
+// A duplicate is re-mutated up to maxRetries times until it is unique. One that stays a clone is
+// kept and, when its twin already has a fitness, takes that fitness instead of being re-evaluated.
+// Re-mutation draws from RandomContext.current(), i.e. the engine's generator during a step.
+public class DuplicateEliminatingReplacement implements ReplacementMethod {
+
+    private final ReplacementMethod inner;
+    private final MutationMethod mutationMethod;
+    private final double mutationRate;
+    private final int maxRetries;
+
+    // hash set: keys[slot] is valid where members[slot] >= 0; members index into the population
+    private long[] keys = new long[0];
+    private int[] members = new int[0];
+    private int mask;
+    private int[] order = new int[0];
+    private final List<Chromosome> single = Arrays.asList(new Chromosome[1]);
+
+    private long duplicatesFound;
+    private long duplicatesKept;
+
+    public DuplicateEliminatingReplacement(ReplacementMethod inner, MutationMethod mutationMethod,
+                                           double mutationRate, int maxRetries) {
+        if (inner == null) throw new IllegalArgumentException("inner replacement cannot be null");
+        if (mutationMethod == null) throw new IllegalArgumentException("mutationMethod cannot be null");
+        if (mutationRate <= 0 || mutationRate > 1) {
+            throw new IllegalArgumentException("Mutation rate must be in (0, 1]");
+        }
+        if (maxRetries < 0) throw new IllegalArgumentException("maxRetries cannot be negative");
+        this.inner = inner;
+        this.mutationMethod = mutationMethod;
+        this.mutationRate = mutationRate;
+        this.maxRetries = maxRetries;
+    }
+
+    @Override
+    public Population replace(Population oldPopulation, Population newPopulation) {
+        Population next = inner.replace(oldPopulation, newPopulation);
+        eliminateDuplicates(next.getIndividuals());
+        return next;
+    }
+
+    @Override
+    public Population replaceInPlace(Population current, Population offspring) {
+        Population next = inner.replaceInPlace(current, offspring);
+        eliminateDuplicates(next.getIndividuals());
+        return next;
+    }
+
+    // Clones found since construction (before re-mutation)
+    public long getDuplicatesFound() {
+        return duplicatesFound;
+    }
+
+    // Clones still present after maxRetries re-mutations
+    public long getDuplicatesKept() {
+        return duplicatesKept;
+    }
+
+    private void eliminateDuplicates(List<Chromosome> individuals) {
+        int n = individuals.size();
+        prepare(n);
+
+        // evaluated individuals first, then the rest, each group in population order
+        int count = 0;
+        for (int i = 0; i < n; i++) if (individuals.get(i).isFitnessValid()) order[count++] = i;
+        for (int i = 0; i < n; i++) if (!individuals.get(i).isFitnessValid()) order[count++] = i;
+
+        for (int k = 0; k < n; k++) {
+            int index = order[k];
+            Chromosome c = individuals.get(index);
+            long hash = GenomeHash.hash(c.getGenes());
+            int twin = find(individuals, c, hash);
+            if (twin < 0) {
+                insert(hash, index);
+                continue;
+            }
+
+            duplicatesFound++;
+            single.set(0, c);
+            for (int attempt = 0; attempt < maxRetries && twin >= 0; attempt++) {
+                mutationMethod.mutate(single, mutationRate);
+                hash = GenomeHash.hash(c.getGenes());
+                twin = find(individuals, c, hash);
+            }
+            single.set(0, null);
+
+            if (twin < 0) {
+                insert(hash, index);
+            } else {
+                duplicatesKept++;
+                Chromosome original = individuals.get(twin);
+                if (!c.isFitnessValid() && original.isFitnessValid()) {
+                    c.setFitness(original.getFitness());
+                }
+            }
+        }
+    }
+
+    private void prepare(int n) {
+        int capacity = Integer.highestOneBit(Math.max(2, n) * 2 - 1) << 1;  // load factor <= 0.5
+        if (members.length != capacity) {
+            keys = new long[capacity];
+            members = new int[capacity];
+            mask = capacity - 1;
+        }
+        Arrays.fill(members, -1);
+        if (order.length < n) order = new int[n];
+    }
+
+    // Index of an individual with the same genes, or -1.
+    private int find(List<Chromosome> individuals, Chromosome c, long hash) {
+        for (int slot = (int) (hash ^ (hash >>> 32)) & mask; members[slot] >= 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == hash && GenomeHash.equalGenes(individuals.get(members[slot]).getGenes(), c.getGenes())) {
+                return members[slot];
+            }
+        }
+        return -1;
+    }
+
+    private void insert(long hash, int index) {
+        int slot = (int) (hash ^ (hash >>> 32)) & mask;
+        while (members[slot] >= 0) slot = (slot + 1) & mask;
+        keys[slot] = hash;
+        members[slot] = index;
+    }
+}
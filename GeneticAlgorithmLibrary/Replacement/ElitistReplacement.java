@@ -4,7 +4,6 @@ import GeneticAlgorithmLibrary.Population;
 import GeneticAlgorithmLibrary.Chromosome.Chromosome;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 
@@ -22,10 +21,9 @@ public class ElitistReplacement implements ReplacementMethod {
         List<Chromosome> newGen = newPopulation.getIndividuals();
         List<Chromosome> nextGen = new ArrayList<>();
 
-        // Keep top N best from the current generation
-        oldGen.sort(Comparator.comparingDouble(Chromosome::getFitness).reversed());
-        for (int i = 0; i < Math.min(numElites, oldGen.size()); i++) {
-            nextGen.add(oldGen.get(i).clone());
+        // Keep top N best from the current generation (partial order, no full sort)
+        for (int index : oldPopulation.topIndices(numElites)) {
+            nextGen.add(oldGen.get(index).clone());
         }
 
         // Fill the rest with offspring until reaching population size
@@ -36,4 +34,17 @@ public class ElitistReplacement implements ReplacementMethod {
         oldPopulation.setIndividuals(nextGen);
         return oldPopulation;
     }
+
+    // Elites overwrite the last numElites offspring slots.
+    @Override
+    public Population replaceInPlace(Population current, Population offspring) {
+        List<Chromosome> oldGen = current.getIndividuals();
+        List<Chromosome> newGen = offspring.getIndividuals();
+
+        int[] elites = current.topIndices(Math.min(numElites, newGen.size()));
+        for (int i = 0; i < elites.length; i++) {
+            newGen.get(newGen.size() - 1 - i).copyFrom(oldGen.get(elites[i]));
+        }
+        return offspring;
+    }
 }
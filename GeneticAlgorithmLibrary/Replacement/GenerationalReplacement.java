@@ -8,4 +8,9 @@ public class GenerationalReplacement implements ReplacementMethod {
     public Population replace(Population oldPopulation, Population newPopulation) {
         return newPopulation;
     }
+
+    @Override
+    public Population replaceInPlace(Population current, Population offspring) {
+        return offspring;
+    }
 }
@@ -1,9 +1,39 @@
 package GeneticAlgorithmLibrary.Replacement;
 
 import GeneticAlgorithmLibrary.Population;
+import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+
+import java.util.ArrayList;
+import java.util.List;
 
 
 public interface ReplacementMethod {
 
     Population replace(Population oldPopulation, Population newPopulation);
+
+    // Pooled variant: offspring has the same size as current, and the next generation is
+    // built only by copyFrom() into existing slots. Returns whichever of the two populations
+    // now holds it; the other one becomes the spare buffer.
+    // The default runs replace() and copies its result into current's original slots, then puts
+    // both populations' slot lists back in case replace() swapped them. The result may share
+    // individuals with current, so they are copied out first; operators override it to avoid
+    // the allocation.
+    default Population replaceInPlace(Population current, Population offspring) {
+        List<Chromosome> slots = new ArrayList<>(current.getIndividuals());
+        List<Chromosome> spareSlots = new ArrayList<>(offspring.getIndividuals());
+        List<Chromosome> next = replace(current, offspring).getIndividuals();
+        if (next.size() != slots.size()) {
+            throw new IllegalStateException(getClass().getSimpleName() + " changed the population size");
+        }
+        List<Chromosome> copies = new ArrayList<>(next.size());
+        for (Chromosome c : next) {
+            copies.add(c.clone());
+        }
+        for (int i = 0; i < slots.size(); i++) {
+            slots.get(i).copyFrom(copies.get(i));
+        }
+        current.setIndividuals(slots);
+        offspring.setIndividuals(spareSlots);
+        return current;
+    }
 }
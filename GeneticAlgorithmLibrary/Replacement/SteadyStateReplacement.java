@@ -2,16 +2,15 @@ package GeneticAlgorithmLibrary.Replacement;
 
 import GeneticAlgorithmLibrary.Population;
 import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+import GeneticAlgorithmLibrary.Randomness.RandomContext;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.Random;
 
 
 public class SteadyStateReplacement implements ReplacementMethod {
 
     private final int numToReplace;
-    private final Random random = new Random();
 
     public SteadyStateReplacement(int numToReplace) {
         this.numToReplace = numToReplace;
@@ -19,19 +18,31 @@ public class SteadyStateReplacement implements ReplacementMethod {
 
     @Override
     public Population replace(Population oldPopulation, Population newPopulation) {
+        RandomSource random = RandomContext.current();
         List<Chromosome> current = oldPopulation.getIndividuals();
         List<Chromosome> offspring = newPopulation.getIndividuals();
 
-        // Sort weakest to strongest
-        current.sort(Comparator.comparingDouble(Chromosome::getFitness));
-
-        // Replace K weakest with random offspring
-        for (int i = 0; i < Math.min(numToReplace, offspring.size()); i++) {
+        // Replace K weakest with random offspring (partial order, no full sort)
+        int[] weakest = oldPopulation.bottomIndices(Math.min(numToReplace, offspring.size()));
+        for (int index : weakest) {
             Chromosome child = offspring.get(random.nextInt(offspring.size())).clone();
-            current.set(i, child);
+            current.set(index, child);
         }
 
         oldPopulation.setIndividuals(current);
         return oldPopulation;
     }
+
+    @Override
+    public Population replaceInPlace(Population current, Population offspring) {
+        RandomSource random = RandomContext.current();
+        List<Chromosome> individuals = current.getIndividuals();
+        List<Chromosome> children = offspring.getIndividuals();
+
+        int[] weakest = current.bottomIndices(Math.min(numToReplace, children.size()));
+        for (int index : weakest) {
+            individuals.get(index).copyFrom(children.get(random.nextInt(children.size())));
+        }
+        return current;
+    }
 }
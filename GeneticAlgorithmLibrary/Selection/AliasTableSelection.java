@@ -0,0 +1,121 @@
+package GeneticAlgorithmLibrary.Selection;
+
+import GeneticAlgorithmLibrary.Population;
+import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+import GeneticAlgorithmLibrary.Randomness.RandomContext;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+// Fitness-proportionate selection using Vose's alias method: O(N) to build the table,
+// then O(1) per parent instead of the O(N) scan of RouletteWheelSelection.
+// prepare() builds the table once per generation; select() and selectIndex() reuse it for that
+// population, and select() builds one local to the call for any other population.
+// Negative fitness values are treated as zero.
+public class AliasTableSelection implements SelectionMethod {
+
+    // Table built by prepare(), reused by selectIndex()
+    private final Table prepared = new Table();
+    private Population preparedFor;
+
+    @Override
+    public void prepare(Population population) {
+        prepared.build(population.getIndividuals());
+        preparedFor = population;
+    }
+
+    // Only reads the prepared table, so concurrent select() calls are safe.
+    @Override
+    public List<Chromosome> select(Population population, int numParents) {
+        Table table = prepared;
+        if (preparedFor != population || prepared.size != population.getSize()) {
+            table = new Table();
+            table.build(population.getIndividuals());
+        }
+        List<Chromosome> individuals = population.getIndividuals();
+        List<Chromosome> selected = new ArrayList<>(numParents);
+        for (int i = 0; i < numParents; i++) {
+            selected.add(individuals.get(table.sample()).clone());
+        }
+        return selected;
+    }
+
+    @Override
+    public List<Chromosome> select(Population population) {
+        return select(population, 2);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public int selectIndex(Population population) {
+        if (preparedFor != population || prepared.size != population.getSize()) {
+            prepare(population);
+        }
+        return prepared.sample();
+    }
+
+    private static final class Table {
+        private double[] probability = new double[0];
+        private int[] alias = new int[0];
+        private int[] small = new int[0];
+        private int[] large = new int[0];
+        private int size;
+
+        void build(List<Chromosome> individuals) {
+            int n = individuals.size();
+            if (probability.length < n) {
+                probability = new double[n];
+                alias = new int[n];
+                small = new int[n];
+                large = new int[n];
+            }
+            size = n;
+
+            double total = 0;
+            for (int i = 0; i < n; i++) {
+                total += Math.max(0.0, individuals.get(i).getFitness());
+            }
+
+            // All-zero fitness: uniform table
+            if (total == 0) {
+                for (int i = 0; i < n; i++) {
+                    probability[i] = 1.0;
+                    alias[i] = i;
+                }
+                return;
+            }
+
+            int smallCount = 0;
+            int largeCount = 0;
+            for (int i = 0; i < n; i++) {
+                probability[i] = Math.max(0.0, individuals.get(i).getFitness()) * n / total;
+                if (probability[i] < 1.0) small[smallCount++] = i;
+                else large[largeCount++] = i;
+            }
+
+            while (smallCount > 0 && largeCount > 0) {
+                int s = small[--smallCount];
+                int l = large[--largeCount];
+                alias[s] = l;
+                probability[l] = (probability[l] + probability[s]) - 1.0;
+                if (probability[l] < 1.0) small[smallCount++] = l;
+                else large[largeCount++] = l;
+            }
+            // Leftovers are 1.0 up to rounding
+            while (largeCount > 0) probability[large[--largeCount]] = 1.0;
+            while (smallCount > 0) probability[small[--smallCount]] = 1.0;
+        }
+
+        int sample() {
+            RandomSource random = RandomContext.current();
+            int column = random.nextInt(size);
+            return random.nextDouble() < probability[column] ? column : alias[column];
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package GeneticAlgorithmLibrary.Selection;
+
+import GeneticAlgorithmLibrary.PackedPopulation;
+
+
+public interface PackedSelectionMethod {
+
+    // Called by PackedGAEngine once per generation, before any selection, so methods can build
+    // per-generation structures once instead of per parent. The fitness values of a packed
+    // population change in place, so anything built here is only valid until the next call.
+    default void prepare(PackedPopulation population) {
+    }
+
+    // Returns the row index of the selected parent.
+    int selectIndex(PackedPopulation population);
+}
@@ -1,13 +1,16 @@
 package GeneticAlgorithmLibrary.Selection;
 
 import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+import GeneticAlgorithmLibrary.PackedPopulation;
 import GeneticAlgorithmLibrary.Population;
+import GeneticAlgorithmLibrary.Randomness.RandomContext;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
 
 import java.util.ArrayList;
 import java.util.List;
 
 
-public class RandomSelection implements SelectionMethod {
+public class RandomSelection implements SelectionMethod, PackedSelectionMethod {
     private int numParents;
 
 
@@ -24,14 +27,25 @@ public class RandomSelection implements SelectionMethod {
 
     @Override
     public List<Chromosome> select(Population population) {
+        RandomSource random = RandomContext.current();
         List<Chromosome> parents = new ArrayList<>();
         List<Chromosome> individuals = population.getIndividuals();
 
         for (int i = 0; i < numParents; i++) {
-            int randomIndex = (int)(Math.random() * individuals.size());
+            int randomIndex = random.nextInt(individuals.size());
             parents.add(individuals.get(randomIndex));
         }
 
         return parents;
     }
+
+    @Override
+    public int selectIndex(Population population) {
+        return RandomContext.current().nextInt(population.getSize());
+    }
+
+    @Override
+    public int selectIndex(PackedPopulation population) {
+        return RandomContext.current().nextInt(population.getSize());
+    }
 }
\ No newline at end of file
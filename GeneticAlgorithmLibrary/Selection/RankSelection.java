@@ -0,0 +1,100 @@
+package GeneticAlgorithmLibrary.Selection;
+
+import GeneticAlgorithmLibrary.Population;
+import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+import GeneticAlgorithmLibrary.Randomness.RandomContext;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+// Linear ranking selection: the individual at rank r (0 = best) gets weight
+// pressure - (2*pressure - 2) * r / (N - 1), so the best is picked `pressure` times as
+// often as the average and the raw fitness scale does not matter.
+// prepare() ranks the population once and builds the cumulative weights; each draw is then
+// a binary search over that table. select() reuses the table for the prepared population.
+public class RankSelection implements SelectionMethod {
+    private final double pressure;
+
+    private int[] ranked = new int[0];
+    private double[] cumulative = new double[0];
+    private Population preparedFor;
+
+    public RankSelection() {
+        this(1.5);
+    }
+
+    public RankSelection(double pressure) {
+        if (pressure < 1.0 || pressure > 2.0) {
+            throw new IllegalArgumentException("Selection pressure must be in [1, 2]");
+        }
+        this.pressure = pressure;
+    }
+
+    @Override
+    public void prepare(Population population) {
+        ranked = population.rankedIndices();
+        if (cumulative.length < ranked.length) cumulative = new double[ranked.length];
+        fillCumulative(ranked.length, cumulative);
+        preparedFor = population;
+    }
+
+    // Reads the prepared table or ranks into locals, so concurrent select() calls are safe.
+    @Override
+    public List<Chromosome> select(Population population, int numParents) {
+        int[] order = ranked;
+        double[] weights = cumulative;
+        if (preparedFor != population || order.length != population.getSize()) {
+            order = population.rankedIndices();
+            weights = new double[order.length];
+            fillCumulative(order.length, weights);
+        }
+        List<Chromosome> individuals = population.getIndividuals();
+        List<Chromosome> selected = new ArrayList<>(numParents);
+        for (int i = 0; i < numParents; i++) {
+            selected.add(individuals.get(draw(order, weights)).clone());
+        }
+        return selected;
+    }
+
+    @Override
+    public List<Chromosome> select(Population population) {
+        return select(population, 2);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public int selectIndex(Population population) {
+        if (preparedFor != population) {
+            prepare(population);
+        }
+        return draw(ranked, cumulative);
+    }
+
+    private void fillCumulative(int n, double[] out) {
+        double slope = n > 1 ? (2 * pressure - 2) / (n - 1) : 0;
+        double sum = 0;
+        for (int r = 0; r < n; r++) {
+            sum += pressure - slope * r;
+            out[r] = sum;
+        }
+    }
+
+    private static int draw(int[] ranked, double[] cumulative) {
+        RandomSource random = RandomContext.current();
+        int n = ranked.length;
+        double target = random.nextDouble() * cumulative[n - 1];
+        int lo = 0, hi = n - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cumulative[mid] > target) hi = mid;
+            else lo = mid + 1;
+        }
+        return ranked[lo];
+    }
+}
@@ -1,49 +1,111 @@
 package GeneticAlgorithmLibrary.Selection;
 
+import GeneticAlgorithmLibrary.PackedPopulation;
 import GeneticAlgorithmLibrary.Population;
 import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+import GeneticAlgorithmLibrary.Randomness.RandomContext;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 
-public class RouletteWheelSelection implements SelectionMethod {
-    private final Random random = new Random();
+// Fitness-proportionate selection. prepare() builds the running fitness sums once per generation
+// and every spin is a binary search over them, so a generation of N parents costs O(N log N)
+// instead of O(N^2). A spin picks the first individual whose running sum reaches it.
+public class RouletteWheelSelection implements SelectionMethod, PackedSelectionMethod {
+
+    // Running fitness sums of the population last passed to prepare() (a Population or a PackedPopulation)
+    private double[] cumulative = new double[0];
+    private int preparedSize;
+    private Object preparedFor;
 
     @Override
     public List<Chromosome> select(Population population, int numParents) {
         List<Chromosome> selected = new ArrayList<>();
         List<Chromosome> individuals = population.getIndividuals();
 
-        double totalFitness = 0;
-        for (Chromosome c : individuals) {
-            totalFitness += c.getFitness();
-        }
-
-        // Handle case of all-zero fitness (prevent division by zero)
-        if (totalFitness == 0) {
-            for (int i = 0; i < numParents; i++) {
-                selected.add(individuals.get(random.nextInt(individuals.size())).clone());
-            }
-            return selected;
-        }
-
+        // select() may run concurrently, so it only reads the prepared sums
+        double[] sums = preparedFor == population && preparedSize == individuals.size()
+                ? cumulative : runningSums(individuals, new double[individuals.size()]);
         for (int i = 0; i < numParents; i++) {
-            double rand = random.nextDouble() * totalFitness;
-            double runningSum = 0;
-            for (Chromosome c : individuals) {
-                runningSum += c.getFitness();
-                if (runningSum >= rand) {
-                    selected.add(c.clone());
-                    break;
-                }
-            }
+            selected.add(individuals.get(spin(sums, individuals.size())).clone());
         }
         return selected;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;  // select() only reads the prepared sums; parents are cloned
+    }
+
     @Override
     public List<Chromosome> select(Population population) {
         return select(population, 2);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void prepare(Population population) {
+        List<Chromosome> individuals = population.getIndividuals();
+        if (cumulative.length < individuals.size()) cumulative = new double[individuals.size()];
+        runningSums(individuals, cumulative);
+        preparedSize = individuals.size();
+        preparedFor = population;
+    }
+
+    @Override
+    public void prepare(PackedPopulation population) {
+        double[] fitness = population.getFitnessValues();
+        int size = population.getSize();
+        if (cumulative.length < size) cumulative = new double[size];
+        double runningSum = 0;
+        for (int i = 0; i < size; i++) {
+            runningSum += fitness[i];
+            cumulative[i] = runningSum;
+        }
+        preparedSize = size;
+        preparedFor = population;
+    }
+
+    @Override
+    public int selectIndex(Population population) {
+        if (preparedFor != population) {
+            prepare(population);
+        }
+        return spin(cumulative, preparedSize);
+    }
+
+    @Override
+    public int selectIndex(PackedPopulation population) {
+        if (preparedFor != population) {
+            prepare(population);
+        }
+        return spin(cumulative, preparedSize);
+    }
+
+    private static double[] runningSums(List<Chromosome> individuals, double[] out) {
+        double runningSum = 0;
+        for (int i = 0; i < individuals.size(); i++) {
+            runningSum += individuals.get(i).getFitness();
+            out[i] = runningSum;
+        }
+        return out;
+    }
+
+    private static int spin(double[] sums, int size) {
+        RandomSource random = RandomContext.current();
+        double totalFitness = sums[size - 1];
+        // Handle case of all-zero fitness (prevent division by zero)
+        if (totalFitness == 0) {
+            return random.nextInt(size);
+        }
+
+        double rand = random.nextDouble() * totalFitness;
+        int lo = 0, hi = size - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sums[mid] >= rand) hi = mid;
+            else lo = mid + 1;
+        }
+        return lo;
+    }
+}
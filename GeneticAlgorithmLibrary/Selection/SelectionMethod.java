@@ -4,10 +4,38 @@ import GeneticAlgorithmLibrary.Chromosome.Chromosome;
 import GeneticAlgorithmLibrary.Population;
 
 import java.util.List;
+import java.util.Objects;
 
 
 public interface SelectionMethod {
     List<Chromosome> select(Population population, int numParents);
 
     List<Chromosome> select(Population population);
+
+    // Called by the engine once per generation, before any selection, so methods can build
+    // per-generation structures (sampling tables, rankings) once instead of per parent.
+    default void prepare(Population population) {
+    }
+
+    // Return true only if select() may run concurrently from several threads on the same
+    // population (as AsyncSteadyStateEngine does) and returns copies the caller may modify.
+    // prepare() and selectIndex() are always called from a single thread.
+    default boolean isThreadSafe() {
+        return false;
+    }
+
+    // Index of one selected parent, without copying it (used by pooled generations).
+    // The default selects one parent through select() and looks it up, first by identity and
+    // then, since select() usually returns a copy, by equal genes.
+    default int selectIndex(Population population) {
+        Chromosome chosen = select(population, 1).get(0);
+        List<Chromosome> individuals = population.getIndividuals();
+        for (int i = 0; i < individuals.size(); i++) {
+            if (individuals.get(i) == chosen) return i;
+        }
+        for (int i = 0; i < individuals.size(); i++) {
+            if (Objects.deepEquals(individuals.get(i).getGenes(), chosen.getGenes())) return i;
+        }
+        throw new IllegalStateException(getClass().getSimpleName() + " selected an individual that is not in the population");
+    }
 }
\ No newline at end of file
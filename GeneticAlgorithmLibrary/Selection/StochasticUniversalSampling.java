@@ -0,0 +1,117 @@
+package GeneticAlgorithmLibrary.Selection;
+
+import GeneticAlgorithmLibrary.Population;
+import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+import GeneticAlgorithmLibrary.Randomness.RandomContext;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+// Stochastic universal sampling: k equally spaced pointers over the fitness wheel pick all
+// k parents in one O(N + k) pass, with lower spread than k independent roulette spins.
+// The picks are shuffled so consecutive parents are not neighbours in the population.
+// prepare() sums the fitness once per generation; select() reuses that total for the prepared
+// population and selectIndex() draws a whole generation of indices at a time from it.
+// Negative fitness values are treated as zero.
+public class StochasticUniversalSampling implements SelectionMethod {
+
+    private Population preparedFor;
+    private double preparedTotal;
+
+    // Indices drawn by selectIndex() and handed out one at a time
+    private int[] drawn = new int[0];
+    private int drawnCount;
+    private int nextDrawn;
+
+    @Override
+    public void prepare(Population population) {
+        preparedTotal = totalFitness(population.getIndividuals());
+        preparedFor = population;
+        drawnCount = 0;
+        nextDrawn = 0;
+    }
+
+    @Override
+    public List<Chromosome> select(Population population, int numParents) {
+        double total = preparedFor == population ? preparedTotal : totalFitness(population.getIndividuals());
+        int[] indices = new int[numParents];
+        int count = sample(population, numParents, indices, total);
+        List<Chromosome> individuals = population.getIndividuals();
+        List<Chromosome> selected = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            selected.add(individuals.get(indices[i]).clone());
+        }
+        return selected;
+    }
+
+    @Override
+    public List<Chromosome> select(Population population) {
+        return select(population, 2);
+    }
+
+    // select() only reads the prepared total; the drawn-index state belongs to prepare()/selectIndex()
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public int selectIndex(Population population) {
+        if (preparedFor != population) {
+            prepare(population);
+        }
+        if (nextDrawn >= drawnCount) {
+            int n = population.getSize();
+            if (drawn.length < n) drawn = new int[n];
+            drawnCount = sample(population, n, drawn, preparedTotal);
+            nextDrawn = 0;
+        }
+        return drawn[nextDrawn++];
+    }
+
+    // Fills out[0..k) with sampled indices (shuffled) and returns k.
+    private int sample(Population population, int k, int[] out, double total) {
+        RandomSource random = RandomContext.current();
+        List<Chromosome> individuals = population.getIndividuals();
+        int n = individuals.size();
+        if (k == 0 || n == 0) return 0;
+
+        if (total == 0) {
+            for (int i = 0; i < k; i++) out[i] = random.nextInt(n);
+            return k;
+        }
+
+        double step = total / k;
+        double pointer = random.nextDouble() * step;
+        double cumulative = 0;
+        int index = 0;
+        int lastPositive = n - 1;
+        for (int i = 0; i < n && index < k; i++) {
+            double f = Math.max(0.0, individuals.get(i).getFitness());
+            if (f > 0) lastPositive = i;
+            cumulative += f;
+            while (index < k && pointer < cumulative) {
+                out[index++] = i;
+                pointer += step;
+            }
+        }
+        // Rounding can leave the last pointer just past the final cumulative sum
+        while (index < k) out[index++] = lastPositive;
+
+        for (int i = k - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = out[i]; out[i] = out[j]; out[j] = tmp;
+        }
+        return k;
+    }
+
+    private static double totalFitness(List<Chromosome> individuals) {
+        double total = 0;
+        for (int i = 0; i < individuals.size(); i++) {
+            total += Math.max(0.0, individuals.get(i).getFitness());
+        }
+        return total;
+    }
+}
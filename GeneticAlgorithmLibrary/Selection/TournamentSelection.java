@@ -1,15 +1,16 @@
 package GeneticAlgorithmLibrary.Selection;
 
+import GeneticAlgorithmLibrary.PackedPopulation;
 import GeneticAlgorithmLibrary.Population;
 import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+import GeneticAlgorithmLibrary.Randomness.RandomContext;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 
-public class TournamentSelection implements SelectionMethod {
+public class TournamentSelection implements SelectionMethod, PackedSelectionMethod {
     private final int tournamentSize;
-    private final Random random = new Random();
 
     public TournamentSelection(int tournamentSize) {
         if (tournamentSize < 2)
@@ -20,6 +21,7 @@ public class TournamentSelection implements SelectionMethod {
 
     @Override
     public List<Chromosome> select(Population population, int numParents) {
+        RandomSource random = RandomContext.current();
         List<Chromosome> selected = new ArrayList<>();
         List<Chromosome> individuals = population.getIndividuals();
 
@@ -36,8 +38,41 @@ public class TournamentSelection implements SelectionMethod {
         return selected;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;  // no mutable state; parents are cloned
+    }
+
     @Override
     public List<Chromosome> select(Population population) {
         return select(population, 2);  // default to selecting 2 parents
     }
+
+    @Override
+    public int selectIndex(Population population) {
+        RandomSource random = RandomContext.current();
+        List<Chromosome> individuals = population.getIndividuals();
+        int best = random.nextInt(individuals.size());
+        for (int j = 1; j < tournamentSize; j++) {
+            int candidate = random.nextInt(individuals.size());
+            if (individuals.get(candidate).getFitness() > individuals.get(best).getFitness()) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public int selectIndex(PackedPopulation population) {
+        RandomSource random = RandomContext.current();
+        int size = population.getSize();
+        int best = random.nextInt(size);
+        for (int j = 1; j < tournamentSize; j++) {
+            int candidate = random.nextInt(size);
+            if (population.getFitness(candidate) > population.getFitness(best)) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package GeneticAlgorithmLibrary.Selection;
+
+import GeneticAlgorithmLibrary.Population;
+import GeneticAlgorithmLibrary.Chromosome.Chromosome;
+import GeneticAlgorithmLibrary.Randomness.RandomContext;
+import GeneticAlgorithmLibrary.Randomness.RandomSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+// Truncation selection: parents are drawn uniformly from the best `fraction` of the population.
+// Only the top k indices are needed, so prepare() uses a partial order (O(N + k log k))
+// instead of sorting everyone; select() reuses that order for the prepared population.
+public class TruncationSelection implements SelectionMethod {
+    private final double fraction;
+
+    private int[] top = new int[0];
+    private Population preparedFor;
+
+    public TruncationSelection(double fraction) {
+        if (fraction <= 0.0 || fraction > 1.0) {
+            throw new IllegalArgumentException("Truncation fraction must be in (0, 1]");
+        }
+        this.fraction = fraction;
+    }
+
+    @Override
+    public void prepare(Population population) {
+        top = topFraction(population);
+        preparedFor = population;
+    }
+
+    // Reads the prepared order or orders into a local array, so concurrent select() calls are safe.
+    @Override
+    public List<Chromosome> select(Population population, int numParents) {
+        RandomSource random = RandomContext.current();
+        int[] candidates = preparedFor == population ? top : topFraction(population);
+        List<Chromosome> individuals = population.getIndividuals();
+        List<Chromosome> selected = new ArrayList<>(numParents);
+        for (int i = 0; i < numParents; i++) {
+            selected.add(individuals.get(candidates[random.nextInt(candidates.length)]).clone());
+        }
+        return selected;
+    }
+
+    @Override
+    public List<Chromosome> select(Population population) {
+        return select(population, 2);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public int selectIndex(Population population) {
+        RandomSource random = RandomContext.current();
+        if (preparedFor != population) {
+            prepare(population);
+        }
+        return top[random.nextInt(top.length)];
+    }
+
+    private int[] topFraction(Population population) {
+        int k = Math.max(1, (int) Math.ceil(fraction * population.getSize()));
+        return population.topIndices(k);
+    }
+}